@@ -3,9 +3,11 @@ package com.ecommerce;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // JPA Auditing 활성화
+@EnableScheduling  // 재고 반영 등 주기 작업 활성화
 public class EcommerceApplication {
 
     public static void main(String[] args) {
@@ -18,6 +18,12 @@ public enum ErrorCode {
   // 상품 관련 오류 코드
   PRODUCT_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "상품을 찾을 수 없습니다."),
   PRODUCT_NOT_AVAILABLE(HttpStatus.BAD_REQUEST.value(), "판매중인 상품이 아닙니다."),
+  FLASH_SALE_ALREADY_ACTIVE(HttpStatus.CONFLICT.value(), "이미 플래시 세일 중인 상품입니다."),
+  FLASH_SALE_NOT_ACTIVE(HttpStatus.BAD_REQUEST.value(), "플래시 세일 중인 상품이 아닙니다."),
+  FLASH_SALE_STOCK_LOCKED(HttpStatus.CONFLICT.value(), "플래시 세일 중에는 재고를 수정할 수 없습니다."),
+  STOCK_SHARDING_ALREADY_ENABLED(HttpStatus.CONFLICT.value(), "이미 재고 분산이 설정된 상품입니다."),
+  STOCK_SHARDING_NOT_ENABLED(HttpStatus.BAD_REQUEST.value(), "재고 분산이 설정되지 않은 상품입니다."),
+  STOCK_MODE_CONFLICT(HttpStatus.CONFLICT.value(), "플래시 세일과 재고 분산은 함께 사용할 수 없습니다."),
 
   // 장바구니 관련 오류 코드
   CART_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "장바구니를 찾을 수 없습니다."),
@@ -33,6 +39,19 @@ public enum ErrorCode {
   ORDER_CANNOT_BE_CANCELED(HttpStatus.BAD_REQUEST.value(), "대기 중인 주문만 취소할 수 있습니다."),
   ORDER_CANNOT_BE_MODIFIED(HttpStatus.BAD_REQUEST.value(), "주문을 수정할 수 없습니다."),
   INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST.value(), "잘못된 주문 상태입니다."),
+  CONCURRENT_MODIFICATION(HttpStatus.CONFLICT.value(), "다른 요청과 동시에 수정되었습니다. 다시 조회 후 시도해주세요."),
+  INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST.value(), "Idempotency-Key 는 1 ~ 100자여야 합니다."),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key 로 다른 주문 요청을 보낼 수 없습니다."),
+  IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT.value(), "같은 주문 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+  ORDER_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE.value(), "주문 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+  ORDER_TICKET_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "주문 접수 번호를 찾을 수 없습니다."),
+  INVALID_EXPORT_RANGE(HttpStatus.BAD_REQUEST.value(), "내보내기 기간이 올바르지 않습니다."),
+  STOCK_LOCK_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE.value(), "주문이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+  // 공통 오류 코드
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST.value(), "잘못된 페이지 커서입니다."),
+  INVALID_SORT_PROPERTY(HttpStatus.BAD_REQUEST.value(), "주문 목록은 createdAt 으로만 정렬할 수 있습니다."),
+  INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST.value(), "조회 기간이 올바르지 않습니다."),
 
   // 보안 관련 오류 코드
   INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST.value(), "잘못된 인증 코드입니다."),
@@ -0,0 +1,14 @@
+package com.ecommerce.common.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+  CSV("text/csv", "csv"),                   // 주문 항목 한 줄씩
+  NDJSON("application/x-ndjson", "ndjson"); // 주문(항목 포함) 한 줄씩
+
+  private final String contentType;
+  private final String extension;
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.common.enums;
+
+public enum OrderEventType {
+  ORDER_CREATED,           // 주문 생성
+  ORDER_STATUS_CHANGED,    // 주문 상태 변경 (배송중, 배송 완료)
+  ORDER_CANCELED,          // 주문 취소
+  DELIVERY_ADDRESS_CHANGED // 배송지 변경
+}
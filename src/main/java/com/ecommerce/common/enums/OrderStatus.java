@@ -1,8 +1,27 @@
 package com.ecommerce.common.enums;
 
+import java.util.Arrays;
+import java.util.List;
+
 public enum OrderStatus {
   PENDING,  // 대기중
   SHIPPED,  // 배송중
   DELIVERED,// 배송 완료
-  CANCELED  // 취소
+  CANCELED; // 취소
+
+  // 상태 전이 규칙 (대기중 -> 배송중/취소, 배송중 -> 배송 완료)
+  public boolean canTransitionTo(OrderStatus target) {
+    return switch (this) {
+      case PENDING -> target == SHIPPED || target == CANCELED;
+      case SHIPPED -> target == DELIVERED;
+      default -> false;
+    };
+  }
+
+  // 대상 상태로 전이할 수 있는 현재 상태 목록
+  public static List<OrderStatus> sourcesOf(OrderStatus target) {
+    return Arrays.stream(values())
+        .filter(status -> status.canTransitionTo(target))
+        .toList();
+  }
 }
@@ -0,0 +1,7 @@
+package com.ecommerce.common.enums;
+
+public enum OrderTicketStatus {
+  QUEUED,    // 대기열에서 처리 대기
+  COMPLETED, // 주문 생성 완료
+  FAILED     // 주문 생성 실패
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.common.enums;
+
+public enum ReservationStatus {
+  ACTIVE,   // 재고 확보 중
+  CONSUMED, // 주문으로 전환
+  EXPIRED,  // 시간 초과로 해제
+  RELEASED  // 새 예약으로 대체되어 해제
+}
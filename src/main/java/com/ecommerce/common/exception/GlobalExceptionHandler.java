@@ -1,8 +1,11 @@
 package com.ecommerce.common.exception;
 
+import com.ecommerce.common.enums.ErrorCode;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,14 +16,32 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 public class GlobalExceptionHandler {
 
   private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+  private static final String RETRY_AFTER_SECONDS = "1";
 
   @ExceptionHandler(CustomException.class)
   public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
     logger.error("Custom exception occurred: {}", e.getMessage());
     ErrorResponse errorResponse = new ErrorResponse(e.getStatusCode(), e.getMessage());
+    // 일시적인 과부하(503)는 클라이언트가 잠시 후 재시도하도록 안내
+    if (e.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+      return ResponseEntity.status(e.getStatusCode())
+          .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+          .body(errorResponse);
+    }
     return ResponseEntity.status(e.getStatusCode()).body(errorResponse);
   }
 
+  // 낙관적 락 충돌 (재시도 후에도 실패한 경우)
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+      OptimisticLockingFailureException e) {
+    logger.warn("Optimistic locking failure: {}", e.getMessage());
+    ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+    ErrorResponse errorResponse = new ErrorResponse(errorCode.getStatusCode(),
+        errorCode.getDescription());
+    return ResponseEntity.status(errorCode.getStatusCode()).body(errorResponse);
+  }
+
   @ExceptionHandler(NullPointerException.class)
   public ResponseEntity<ErrorResponse> handleNullPointerException(NullPointerException e) {
     logger.error("Null pointer exception: {}", e.getMessage());
@@ -0,0 +1,13 @@
+package com.ecommerce.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+// 엔티티 저장 시점에 애플리케이션에서 ID 를 발급 (INSERT 전에 ID 를 알 수 있어 JDBC 배치 가능)
+public class TsidIdentifierGenerator implements IdentifierGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    return TsidGenerator.nextId();
+  }
+}
@@ -0,0 +1,159 @@
+package com.ecommerce.common.lock;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.exception.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 ID 기반 lock striping.
+ * <p>
+ * 상품 ID 를 고정된 개수의 스트라이프로 매핑하고, 여러 상품을 잠글 때는 항상 스트라이프 번호 오름차순으로 획득하여
+ * 겹치는 주문끼리 교착 상태가 생기지 않도록 함. 서로 다른 스트라이프의 상품을 다루는 주문은 병렬로 진행됨.
+ * 단일 JVM 안에서만 유효하며, 인스턴스 간 정합성은 DB 조건부 UPDATE 가 보장.
+ * <p>
+ * 이미 잡고 있는 스트라이프보다 낮은 번호를 추가로 잠가야 하면 순서가 뒤집히므로 기다리지 않고 즉시 시도만 하고,
+ * 실패하면 {@link ErrorCode#STOCK_LOCK_TIMEOUT} 으로 실패시켜 교착 대신 호출하는 쪽이 다시 처리하도록 함.
+ */
+@Component
+@Slf4j
+public class StripedLockManager {
+
+  private final ReentrantLock[] stripes;
+  private final Timer[] waitTimers;
+  private final Counter[] contentionCounters;
+  private final long timeoutMillis;
+
+  public StripedLockManager(MeterRegistry meterRegistry,
+      @Value("${inventory.lock.stripes:64}") int stripeCount,
+      @Value("${inventory.lock.timeout-ms:3000}") long timeoutMillis) {
+    this.stripes = new ReentrantLock[stripeCount];
+    this.waitTimers = new Timer[stripeCount];
+    this.contentionCounters = new Counter[stripeCount];
+    this.timeoutMillis = timeoutMillis;
+
+    for (int i = 0; i < stripeCount; i++) {
+      String stripe = String.valueOf(i);
+      stripes[i] = new ReentrantLock();
+      waitTimers[i] = Timer.builder("inventory.lock.wait")
+          .description("상품 락 획득 대기 시간")
+          .tag("stripe", stripe)
+          .register(meterRegistry);
+      contentionCounters[i] = Counter.builder("inventory.lock.contention")
+          .description("다른 스레드가 점유 중이어서 대기한 횟수")
+          .tag("stripe", stripe)
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * 상품들의 락을 획득하고 현재 트랜잭션이 끝나면(커밋/롤백) 해제
+   * <p>
+   * 커밋 이전에 락을 놓으면 다른 스레드가 커밋 전 데이터를 기준으로 진행할 수 있으므로 트랜잭션 종료까지 유지.
+   *
+   * @param productIds 상품 ID 목록
+   */
+  public void lockUntilTransactionEnd(Collection<Long> productIds) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("활성 트랜잭션 안에서만 사용할 수 있습니다.");
+    }
+
+    int[] acquired = lock(productIds);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        unlock(acquired);
+      }
+    });
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 스트라이프 번호 오름차순으로 획득, 실패 시 이미 획득한 락은 해제
+  private int[] lock(Collection<Long> productIds) {
+    int[] stripeIndexes = productIds.stream()
+        .mapToInt(this::stripeOf)
+        .distinct()
+        .sorted()
+        .toArray();
+
+    int highestHeld = highestHeldStripe();
+    int lockedCount = 0;
+    try {
+      for (int index : stripeIndexes) {
+        if (index < highestHeld && !stripes[index].isHeldByCurrentThread()) {
+          acquireOutOfOrder(index);
+        } else {
+          acquire(index);
+        }
+        lockedCount++;
+      }
+    } catch (RuntimeException e) {
+      for (int i = lockedCount - 1; i >= 0; i--) {
+        stripes[stripeIndexes[i]].unlock();
+      }
+      throw e;
+    }
+    return stripeIndexes;
+  }
+
+  private void acquire(int index) {
+    ReentrantLock lock = stripes[index];
+    if (lock.tryLock()) {
+      return;
+    }
+
+    contentionCounters[index].increment();
+    long start = System.nanoTime();
+    try {
+      if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        log.warn("상품 락 획득 시간 초과 - stripe: {}", index);
+        throw new CustomException(ErrorCode.STOCK_LOCK_TIMEOUT);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.STOCK_LOCK_TIMEOUT);
+    } finally {
+      waitTimers[index].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // 오름차순을 어기는 획득은 대기하지 않음 (대기하면 반대 순서로 잡은 스레드와 교착)
+  private void acquireOutOfOrder(int index) {
+    if (!stripes[index].tryLock()) {
+      contentionCounters[index].increment();
+      log.warn("상품 락 순서 역전으로 획득 포기 - stripe: {}", index);
+      throw new CustomException(ErrorCode.STOCK_LOCK_TIMEOUT);
+    }
+  }
+
+  // 현재 스레드가 잡고 있는 가장 높은 스트라이프 번호 (없으면 -1)
+  private int highestHeldStripe() {
+    for (int i = stripes.length - 1; i >= 0; i--) {
+      if (stripes[i].isHeldByCurrentThread()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // 획득 역순으로 해제
+  private void unlock(int[] stripeIndexes) {
+    for (int i = stripeIndexes.length - 1; i >= 0; i--) {
+      stripes[stripeIndexes[i]].unlock();
+    }
+  }
+
+  private int stripeOf(Long productId) {
+    return Math.floorMod(Long.hashCode(productId), stripes.length);
+  }
+}
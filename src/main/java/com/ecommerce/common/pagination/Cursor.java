@@ -0,0 +1,36 @@
+package com.ecommerce.common.pagination;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 최신순 목록의 다음 페이지 위치 (마지막 항목의 생성 시각, ID).
+ * <p>
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달하며, 조회 시 (created_at, id) 인덱스에서 이 위치 다음부터 읽음.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 잘못된 커서는 400 으로 처리
+  public static Cursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      return new Cursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+          Long.valueOf(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 커서 기반 목록 응답 (전체 건수를 세지 않고 다음 페이지 존재 여부만 반환)
+@Getter
+@AllArgsConstructor
+public class CursorSlice<T> {
+
+  private static final int MAX_SIZE = 100;
+
+  private final List<T> content;
+  private final String nextCursor; // 마지막 페이지면 null
+  private final boolean hasNext;
+
+  // 요청 크기를 1 ~ 100 으로 제한
+  public static int normalizeSize(int size) {
+    return Math.max(1, Math.min(size, MAX_SIZE));
+  }
+
+  /**
+   * 요청 크기보다 한 건 더 조회한 결과로 응답 생성
+   *
+   * @param rows     size + 1 건까지 조회한 결과
+   * @param size     요청 크기
+   * @param cursorOf 항목의 커서
+   * @param mapper   응답 DTO 변환
+   * @return 커서 기반 목록 응답
+   */
+  public static <E, T> CursorSlice<T> of(List<E> rows, int size, Function<E, Cursor> cursorOf,
+      Function<List<E>, List<T>> mapper) {
+    boolean hasNext = rows.size() > size;
+    List<E> page = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+    return new CursorSlice<>(mapper.apply(page), nextCursor, hasNext);
+  }
+}
@@ -30,6 +30,20 @@ public class RedisCacheRepository {
     }
   }
 
+  // 키가 없을 때만 저장 (원자적으로 처리, 저장했으면 true)
+  public boolean setDataIfAbsent(String key, String value, Long durationInSeconds) {
+    ValueOperations<String, String> valueOperations = redisTemplate.opsForValue();
+    Boolean stored = durationInSeconds != null
+        ? valueOperations.setIfAbsent(key, value, Duration.ofSeconds(durationInSeconds))
+        : valueOperations.setIfAbsent(key, value);
+    return Boolean.TRUE.equals(stored);
+  }
+
+  // 만료 시간 연장 (키가 없으면 false)
+  public boolean expire(String key, long durationInSeconds) {
+    return Boolean.TRUE.equals(redisTemplate.expire(key, Duration.ofSeconds(durationInSeconds)));
+  }
+
   // 삭제
   public void deleteData(String key) {
     redisTemplate.delete(key);
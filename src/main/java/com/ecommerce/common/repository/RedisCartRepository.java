@@ -0,0 +1,322 @@
+package com.ecommerce.common.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * 장바구니 Redis 저장소.
+ * <p>
+ * 장바구니마다 해시(상품 ID -> 수량)와 변경 횟수 필드를 두고, 변경된 장바구니는 dirty, 마지막 사용 시각은 active 정렬
+ * 집합에 기록. 모든 변경은 Lua 스크립트 한 번으로 처리.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisCartRepository {
+
+  // 모든 키가 같은 hash slot 에 들어가도록 hash tag 사용 (Redis Cluster 에서 스크립트 실행 가능)
+  private static final String ITEMS_KEY_PREFIX = "{cart}:items:";
+  private static final String DIRTY_KEY = "{cart}:dirty";
+  private static final String ACTIVE_KEY = "{cart}:active";
+  private static final String VERSION_FIELD = "_ver";
+
+  // 스크립트 결과 코드
+  public static final long NOT_LOADED = -2;
+  public static final long REJECTED = -1;
+
+  // 변경 공통 처리: 변경 횟수 증가, dirty/active 갱신 (KEYS = [items, dirty, active], ARGV[1] = 장바구니 ID, ARGV[2] = 현재 시각)
+  private static final String TOUCH = """
+      local function touch()
+        redis.call('HINCRBY', KEYS[1], '_ver', 1)
+        redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+        redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+      end
+      """;
+
+  // DB 의 장바구니를 올림 (이미 올라와 있으면 사용 시각만 갱신), ARGV[3..] = 상품 ID, 수량 순
+  private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('HSET', KEYS[1], '_ver', 0)
+        for i = 3, #ARGV, 2 do
+          redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+        end
+      end
+      redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  // 수량 추가 (합계가 ARGV[5] 를 넘으면 거절), ARGV[3] = 상품 ID, ARGV[4] = 추가 수량
+  private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      local updated = tonumber(redis.call('HGET', KEYS[1], ARGV[3]) or '0') + tonumber(ARGV[4])
+      if updated > tonumber(ARGV[5]) then
+        return -1
+      end
+      redis.call('HSET', KEYS[1], ARGV[3], updated)
+      touch()
+      return updated
+      """, Long.class);
+
+  // 담긴 상품 수량 변경 (없는 상품이면 거절), ARGV[3] = 상품 ID, ARGV[4] = 수량
+  private static final RedisScript<Long> SET_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      if redis.call('HEXISTS', KEYS[1], ARGV[3]) == 0 then
+        return -1
+      end
+      redis.call('HSET', KEYS[1], ARGV[3], ARGV[4])
+      touch()
+      return tonumber(ARGV[4])
+      """, Long.class);
+
+  // 상품 삭제 (없는 상품이면 거절), ARGV[3] = 상품 ID
+  private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      if redis.call('HDEL', KEYS[1], ARGV[3]) == 0 then
+        return -1
+      end
+      touch()
+      return 0
+      """, Long.class);
+
+  // 전체 상품 삭제 (비어 있으면 거절)
+  private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      if redis.call('HLEN', KEYS[1]) <= 1 then
+        return -1
+      end
+      local version = redis.call('HGET', KEYS[1], '_ver')
+      redis.call('DEL', KEYS[1])
+      redis.call('HSET', KEYS[1], '_ver', version)
+      touch()
+      return 0
+      """, Long.class);
+
+  // 주문된 수량만큼 차감 (주문 중에 추가로 담은 상품은 남김), ARGV[3..] = 상품 ID, 수량 순
+  private static final RedisScript<Long> SUBTRACT_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      for i = 3, #ARGV, 2 do
+        if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1
+            and redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1])) <= 0 then
+          redis.call('HDEL', KEYS[1], ARGV[i])
+        end
+      end
+      touch()
+      return 0
+      """, Long.class);
+
+  // 차감을 되돌림 (주문 트랜잭션 롤백 시), ARGV[3..] = 상품 ID, 수량 순
+  private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>(TOUCH + """
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -2
+      end
+      for i = 3, #ARGV, 2 do
+        redis.call('HINCRBY', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]))
+      end
+      touch()
+      return 0
+      """, Long.class);
+
+  // DB 반영 이후 변경이 없었으면 dirty 에서 제거, ARGV[2] = 반영한 변경 횟수
+  private static final RedisScript<Long> MARK_FLUSHED_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('HGET', KEYS[1], '_ver') == ARGV[2] then
+        redis.call('ZREM', KEYS[2], ARGV[1])
+        return 1
+      end
+      return 0
+      """, Long.class);
+
+  // 반영되지 않은 변경이 없고 마지막 사용 이후 접근이 없었으면 내림, ARGV[2] = 조회한 마지막 사용 시각
+  private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+      if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+        return 0
+      end
+      local lastAccess = redis.call('ZSCORE', KEYS[3], ARGV[1])
+      if lastAccess and tonumber(lastAccess) ~= tonumber(ARGV[2]) then
+        return 0
+      end
+      redis.call('DEL', KEYS[1])
+      redis.call('ZREM', KEYS[3], ARGV[1])
+      return 1
+      """, Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  // DB 장바구니를 올림
+  public void load(Long cartId, Map<Long, Integer> quantities) {
+    List<String> args = baseArgs(cartId);
+    quantities.forEach((productId, quantity) -> {
+      args.add(productId.toString());
+      args.add(quantity.toString());
+    });
+    execute(LOAD_SCRIPT, cartId, args);
+  }
+
+  // 수량 추가, 추가 후 수량 또는 결과 코드 반환
+  public long add(Long cartId, Long productId, int quantity, int maxQuantity) {
+    List<String> args = baseArgs(cartId);
+    args.addAll(List.of(productId.toString(), String.valueOf(quantity),
+        String.valueOf(maxQuantity)));
+    return execute(ADD_SCRIPT, cartId, args);
+  }
+
+  // 수량 변경, 변경 후 수량 또는 결과 코드 반환
+  public long set(Long cartId, Long productId, int quantity) {
+    List<String> args = baseArgs(cartId);
+    args.addAll(List.of(productId.toString(), String.valueOf(quantity)));
+    return execute(SET_SCRIPT, cartId, args);
+  }
+
+  // 상품 삭제, 0 또는 결과 코드 반환
+  public long remove(Long cartId, Long productId) {
+    List<String> args = baseArgs(cartId);
+    args.add(productId.toString());
+    return execute(REMOVE_SCRIPT, cartId, args);
+  }
+
+  // 전체 삭제, 0 또는 결과 코드 반환
+  public long clear(Long cartId) {
+    return execute(CLEAR_SCRIPT, cartId, baseArgs(cartId));
+  }
+
+  // 주문된 수량 차감, 올라와 있지 않아 차감하지 않았으면 false
+  public boolean subtract(Long cartId, Map<Long, Integer> quantities) {
+    return execute(SUBTRACT_SCRIPT, cartId, quantityArgs(cartId, quantities)) != NOT_LOADED;
+  }
+
+  // 차감한 수량을 다시 더함 (그 사이 내려갔으면 무시)
+  public void restore(Long cartId, Map<Long, Integer> quantities) {
+    execute(RESTORE_SCRIPT, cartId, quantityArgs(cartId, quantities));
+  }
+
+  /**
+   * 장바구니 상태 조회
+   *
+   * @param cartId 장바구니 ID
+   * @return 올라와 있지 않으면 null
+   */
+  public CartSnapshot snapshot(Long cartId) {
+    Map<Object, Object> entries = redisTemplate.opsForHash().entries(itemsKey(cartId));
+    if (entries.isEmpty()) {
+      return null;
+    }
+
+    long version = 0;
+    Map<Long, Integer> quantities = new LinkedHashMap<>();
+    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+      String field = String.valueOf(entry.getKey());
+      if (VERSION_FIELD.equals(field)) {
+        version = Long.parseLong(String.valueOf(entry.getValue()));
+      } else {
+        quantities.put(Long.valueOf(field), Integer.valueOf(String.valueOf(entry.getValue())));
+      }
+    }
+    return new CartSnapshot(version, quantities);
+  }
+
+  // DB 에 반영되지 않은 변경이 있는지 여부
+  public boolean isDirty(Long cartId) {
+    return redisTemplate.opsForZSet().score(DIRTY_KEY, cartId.toString()) != null;
+  }
+
+  // DB 반영 완료 표시 (반영 이후 변경이 있었으면 false)
+  public boolean markFlushed(Long cartId, long version) {
+    return execute(MARK_FLUSHED_SCRIPT, cartId, List.of(cartId.toString(),
+        String.valueOf(version))) == 1;
+  }
+
+  // 지정 시각 이전에 변경된 장바구니 ID
+  public List<Long> findDirty(long upToMillis, int limit) {
+    Set<String> ids = redisTemplate.opsForZSet()
+        .rangeByScore(DIRTY_KEY, Double.NEGATIVE_INFINITY, upToMillis, 0, limit);
+    return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+  }
+
+  // 지정 시각 이전에 마지막으로 사용된 장바구니 ID 와 사용 시각
+  public Map<Long, Double> findIdle(long upToMillis, int limit) {
+    Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+        .rangeByScoreWithScores(ACTIVE_KEY, Double.NEGATIVE_INFINITY, upToMillis, 0, limit);
+    Map<Long, Double> idle = new HashMap<>();
+    if (tuples != null) {
+      tuples.forEach(tuple -> idle.put(Long.valueOf(tuple.getValue()), tuple.getScore()));
+    }
+    return idle;
+  }
+
+  // 올라와 있는 장바구니 ID (사용 시각이 기록된 장바구니)
+  public Set<Long> findLoaded(Collection<Long> cartIds) {
+    List<Long> ids = List.copyOf(cartIds);
+    List<Double> scores = redisTemplate.opsForZSet()
+        .score(ACTIVE_KEY, ids.stream().map(String::valueOf).toArray());
+    Set<Long> loaded = new HashSet<>();
+    for (int i = 0; scores != null && i < ids.size(); i++) {
+      if (scores.get(i) != null) {
+        loaded.add(ids.get(i));
+      }
+    }
+    return loaded;
+  }
+
+  // 유휴 장바구니 내림 (그 사이 사용되었거나 반영되지 않은 변경이 있으면 false)
+  public boolean evict(Long cartId, double lastAccess) {
+    return execute(EVICT_SCRIPT, cartId, List.of(cartId.toString(),
+        String.valueOf((long) lastAccess))) == 1;
+  }
+
+  // 장바구니 제거 (DB 에서 삭제된 장바구니 정리용)
+  public void discard(Long cartId) {
+    redisTemplate.delete(itemsKey(cartId));
+    redisTemplate.opsForZSet().remove(DIRTY_KEY, cartId.toString());
+    redisTemplate.opsForZSet().remove(ACTIVE_KEY, cartId.toString());
+  }
+
+  private long execute(RedisScript<Long> script, Long cartId, List<String> args) {
+    Long result = redisTemplate.execute(script, List.of(itemsKey(cartId), DIRTY_KEY, ACTIVE_KEY),
+        args.toArray());
+    return result == null ? NOT_LOADED : result;
+  }
+
+  private static List<String> baseArgs(Long cartId) {
+    List<String> args = new ArrayList<>();
+    args.add(cartId.toString());
+    args.add(String.valueOf(System.currentTimeMillis()));
+    return args;
+  }
+
+  private static List<String> quantityArgs(Long cartId, Map<Long, Integer> quantities) {
+    List<String> args = baseArgs(cartId);
+    quantities.forEach((productId, quantity) -> {
+      args.add(productId.toString());
+      args.add(quantity.toString());
+    });
+    return args;
+  }
+
+  private static String itemsKey(Long cartId) {
+    return ITEMS_KEY_PREFIX + cartId;
+  }
+
+  public record CartSnapshot(long version, Map<Long, Integer> quantities) {
+
+  }
+}
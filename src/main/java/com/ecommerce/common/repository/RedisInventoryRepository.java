@@ -0,0 +1,217 @@
+package com.ecommerce.common.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class RedisInventoryRepository {
+
+  // 모든 키가 같은 hash slot 에 들어가도록 hash tag 사용 (Redis Cluster 에서 스크립트 실행 가능)
+  private static final String STOCK_KEY_PREFIX = "{inventory}:stock:";
+  private static final String PENDING_KEY = "{inventory}:pending";
+  private static final String ACTIVE_KEY = "{inventory}:active";
+
+  // 관리 중인(키가 존재하는) 상품 전부 재고가 충분할 때만 차감, 차감량은 pending 해시에 누적
+  // 반환: {0, 관리 대상이 아닌 상품 ID...} 또는 {1, 재고 부족 상품 ID}
+  private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+      local n = #ARGV / 2
+      for i = 1, n do
+        local stock = redis.call('GET', KEYS[i + 1])
+        if stock and tonumber(stock) < tonumber(ARGV[n + i]) then
+          return {1, tonumber(ARGV[i])}
+        end
+      end
+      local result = {0}
+      for i = 1, n do
+        if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+          redis.call('DECRBY', KEYS[i + 1], ARGV[n + i])
+          redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[n + i]))
+        else
+          table.insert(result, tonumber(ARGV[i]))
+        end
+      end
+      return result
+      """, List.class);
+
+  // 관리 중인 상품 재고 복구, pending 해시에 증가량 누적
+  // 반환: 관리 대상이 아닌 상품 ID 목록
+  private static final RedisScript<List> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+      local n = #ARGV / 2
+      local unmanaged = {}
+      for i = 1, n do
+        if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+          redis.call('INCRBY', KEYS[i + 1], ARGV[n + i])
+          redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[n + i])
+        else
+          table.insert(unmanaged, tonumber(ARGV[i]))
+        end
+      end
+      return unmanaged
+      """, List.class);
+
+  // pending 해시를 읽고 바로 삭제 (읽기와 삭제 사이에 들어온 변경이 유실되지 않도록 원자적으로 처리)
+  private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+      local deltas = redis.call('HGETALL', KEYS[1])
+      redis.call('DEL', KEYS[1])
+      return deltas
+      """, List.class);
+
+  private final StringRedisTemplate redisTemplate;
+
+  /**
+   * 관리 중인 상품의 재고를 한 번에 예약
+   *
+   * @param quantities 상품 ID 별 차감 수량
+   * @return 예약 결과
+   */
+  public ReserveResult reserve(Map<Long, Integer> quantities) {
+    List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys(quantities), args(quantities));
+    List<Long> values = toLongs(result);
+
+    if (values.get(0) == 1L) {
+      return new ReserveResult(values.get(1), List.of());
+    }
+    return new ReserveResult(null, values.subList(1, values.size()));
+  }
+
+  /**
+   * 관리 중인 상품의 재고 복구
+   *
+   * @param quantities 상품 ID 별 복구 수량
+   * @return 관리 대상이 아니어서 복구하지 않은 상품 ID 목록
+   */
+  public List<Long> restore(Map<Long, Integer> quantities) {
+    return toLongs(redisTemplate.execute(RESTORE_SCRIPT, keys(quantities), args(quantities)));
+  }
+
+  /**
+   * DB 에 반영되지 않은 재고 변경량을 꺼내고 비움
+   *
+   * @return 상품 ID 별 재고 변경량
+   */
+  public Map<Long, Integer> drainPendingDeltas() {
+    List<?> result = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY));
+    Map<Long, Integer> deltas = new HashMap<>();
+    if (result == null) {
+      return deltas;
+    }
+    for (int i = 0; i + 1 < result.size(); i += 2) {
+      int delta = Integer.parseInt(String.valueOf(result.get(i + 1)));
+      if (delta != 0) {
+        deltas.put(Long.valueOf(String.valueOf(result.get(i))), delta);
+      }
+    }
+    return deltas;
+  }
+
+  /**
+   * DB 반영에 실패한 변경량을 다시 pending 해시에 누적
+   *
+   * @param deltas 상품 ID 별 재고 변경량
+   */
+  public void requeuePendingDeltas(Map<Long, Integer> deltas) {
+    deltas.forEach((productId, delta) ->
+        redisTemplate.opsForHash().increment(PENDING_KEY, productId.toString(), delta));
+  }
+
+  // 관리 대상 등록 (이미 등록된 경우 false)
+  public boolean initStock(Long productId, int stockQuantity) {
+    return Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(stockKey(productId), String.valueOf(stockQuantity)));
+  }
+
+  // 관리 대상 해제
+  public boolean removeStock(Long productId) {
+    return Boolean.TRUE.equals(redisTemplate.delete(stockKey(productId)));
+  }
+
+  // 관리 중인 재고 조회, 관리 대상이 아니면 null
+  public Integer getStock(Long productId) {
+    String stock = redisTemplate.opsForValue().get(stockKey(productId));
+    return stock == null ? null : Integer.valueOf(stock);
+  }
+
+  // 관리 중인 상품 ID 조회 (한 번의 MGET)
+  public Set<Long> findManaged(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return Set.of();
+    }
+    List<Long> ids = List.copyOf(productIds);
+    List<String> stocks = redisTemplate.opsForValue()
+        .multiGet(ids.stream().map(RedisInventoryRepository::stockKey).toList());
+
+    Set<Long> managed = new HashSet<>();
+    for (int i = 0; stocks != null && i < ids.size(); i++) {
+      if (stocks.get(i) != null) {
+        managed.add(ids.get(i));
+      }
+    }
+    return managed;
+  }
+
+  // 세일 진행 상품 등록 (각 인스턴스가 주기적으로 읽어 세일 상품 주문만 장부로 보냄)
+  public void addActive(Long productId) {
+    redisTemplate.opsForSet().add(ACTIVE_KEY, productId.toString());
+  }
+
+  // 세일 진행 상품 해제
+  public void removeActive(Long productId) {
+    redisTemplate.opsForSet().remove(ACTIVE_KEY, productId.toString());
+  }
+
+  // 세일 진행 상품 ID 전체 조회
+  public Set<Long> findActive() {
+    Set<String> members = redisTemplate.opsForSet().members(ACTIVE_KEY);
+    if (members == null) {
+      return Set.of();
+    }
+    Set<Long> active = new HashSet<>();
+    members.forEach(member -> active.add(Long.valueOf(member)));
+    return active;
+  }
+
+  private static String stockKey(Long productId) {
+    return STOCK_KEY_PREFIX + productId;
+  }
+
+  // KEYS = [pending, stock(상품1), stock(상품2), ...]
+  private static List<String> keys(Map<Long, Integer> quantities) {
+    List<String> keys = new ArrayList<>();
+    keys.add(PENDING_KEY);
+    quantities.keySet().forEach(productId -> keys.add(stockKey(productId)));
+    return keys;
+  }
+
+  // ARGV = [상품 ID..., 수량...] (keys 와 같은 순서)
+  private static Object[] args(Map<Long, Integer> quantities) {
+    List<String> args = new ArrayList<>();
+    quantities.keySet().forEach(productId -> args.add(productId.toString()));
+    quantities.values().forEach(quantity -> args.add(quantity.toString()));
+    return args.toArray();
+  }
+
+  private static List<Long> toLongs(List<?> values) {
+    if (values == null) {
+      return List.of();
+    }
+    return values.stream().map(value -> Long.valueOf(String.valueOf(value))).toList();
+  }
+
+  public record ReserveResult(Long insufficientProductId, List<Long> unmanagedProductIds) {
+
+    public boolean isSuccess() {
+      return insufficientProductId == null;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.common.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 락 충돌 시 재시도.
+ * <p>
+ * 충돌한 요청끼리 같은 간격으로 다시 부딪히지 않도록 지수 백오프 범위 안에서 임의 시간(full jitter)만큼 대기 후 재실행.
+ * 재시도마다 새 트랜잭션이 시작되어야 하므로 반드시 트랜잭션 바깥(컨트롤러)에서 호출할 것.
+ * 충돌/재시도/포기 횟수는 엔드포인트별로 집계되어 락 전략을 바꿔야 할 대상을 판단하는 데 사용.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetryTemplate {
+
+  private final MeterRegistry meterRegistry;
+  private final int maxAttempts;
+  private final long baseBackoffMillis;
+  private final long maxBackoffMillis;
+
+  public OptimisticLockRetryTemplate(MeterRegistry meterRegistry,
+      @Value("${retry.optimistic-lock.max-attempts:3}") int maxAttempts,
+      @Value("${retry.optimistic-lock.base-backoff-ms:20}") long baseBackoffMillis,
+      @Value("${retry.optimistic-lock.max-backoff-ms:200}") long maxBackoffMillis) {
+    this.meterRegistry = meterRegistry;
+    this.maxAttempts = maxAttempts;
+    this.baseBackoffMillis = baseBackoffMillis;
+    this.maxBackoffMillis = maxBackoffMillis;
+  }
+
+  /**
+   * 설정된 최대 횟수까지 재시도하며 실행
+   *
+   * @param endpoint 집계용 엔드포인트 이름
+   * @param action   실행할 작업 (트랜잭션 단위)
+   * @return 작업 결과
+   */
+  public <T> T execute(String endpoint, Supplier<T> action) {
+    return execute(endpoint, maxAttempts, action);
+  }
+
+  /**
+   * 지정한 최대 횟수까지 재시도하며 실행 (1 이면 충돌만 집계하고 재시도하지 않음)
+   *
+   * @param endpoint    집계용 엔드포인트 이름
+   * @param maxAttempts 최대 실행 횟수
+   * @param action      실행할 작업 (트랜잭션 단위)
+   * @return 작업 결과
+   */
+  public <T> T execute(String endpoint, int maxAttempts, Supplier<T> action) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return action.get();
+      } catch (OptimisticLockingFailureException e) {
+        counter("optimistic_lock.conflicts", endpoint).increment();
+        if (attempt >= maxAttempts) {
+          counter("optimistic_lock.exhausted", endpoint).increment();
+          log.warn("낙관적 락 충돌 재시도 한도 초과 - endpoint: {}, 시도: {}", endpoint, attempt);
+          throw e;
+        }
+
+        counter("optimistic_lock.retries", endpoint).increment();
+        log.info("낙관적 락 충돌로 재시도 - endpoint: {}, 시도: {}", endpoint, attempt);
+        backoff(attempt, e);
+      }
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 0 ~ min(max, base * 2^(attempt-1)) 사이 임의 시간 대기
+  private void backoff(int attempt, OptimisticLockingFailureException cause) {
+    long ceiling = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(attempt - 1, 16));
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw cause;
+    }
+  }
+
+  private Counter counter(String name, String endpoint) {
+    return Counter.builder(name)
+        .tag("endpoint", endpoint)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.common.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단일 스레드 hashed timing wheel.
+ * <p>
+ * 만료 시각을 tick 단위 버킷에 담아 두고, tick 마다 현재 버킷만 확인하므로 예약 건수와 무관하게 등록/만료가 O(1).
+ * 만료된 키는 전달받은 executor 에서 처리하여 tick 진행이 처리 시간에 밀리지 않도록 함.
+ *
+ * @param <T> 만료 시 전달할 키 타입
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+
+  private final long tickMillis;
+  private final Deque<Entry<T>>[] buckets;
+  private final Queue<Entry<T>> pending = new ConcurrentLinkedQueue<>();
+  private final Consumer<T> expiryHandler;
+  private final Executor executor;
+  private final Thread worker;
+
+  private volatile boolean running;
+  private long startTime;
+  private long tick;
+
+  @SuppressWarnings("unchecked")
+  public HashedTimingWheel(String name, long tickMillis, int wheelSize, Consumer<T> expiryHandler,
+      Executor executor) {
+    this.tickMillis = tickMillis;
+    this.buckets = new Deque[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      buckets[i] = new ArrayDeque<>();
+    }
+    this.expiryHandler = expiryHandler;
+    this.executor = executor;
+    this.worker = new Thread(this::run, name);
+    this.worker.setDaemon(true);
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    startTime = System.currentTimeMillis();
+    running = true;
+    worker.start();
+  }
+
+  public void stop() {
+    running = false;
+    worker.interrupt();
+  }
+
+  /**
+   * 만료 시각 등록
+   *
+   * @param key            만료 시 전달할 키
+   * @param deadlineMillis 만료 시각 (epoch millis)
+   */
+  public void schedule(T key, long deadlineMillis) {
+    pending.add(new Entry<>(key, deadlineMillis));
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void run() {
+    while (running) {
+      long nextTickTime = startTime + (tick + 1) * tickMillis;
+      long sleepMillis = nextTickTime - System.currentTimeMillis();
+      if (sleepMillis > 0) {
+        try {
+          Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+          if (!running) {
+            return;
+          }
+          continue;
+        }
+      }
+
+      transferPending();
+      expireBucket(buckets[(int) (tick % buckets.length)]);
+      tick++;
+    }
+  }
+
+  // 새로 등록된 항목을 만료 tick 에 해당하는 버킷으로 이동 (이미 지난 시각이면 현재 버킷)
+  private void transferPending() {
+    Entry<T> entry;
+    while ((entry = pending.poll()) != null) {
+      long expiryTick = Math.max((entry.deadlineMillis - startTime) / tickMillis, tick);
+      entry.remainingRounds = (expiryTick - tick) / buckets.length;
+      buckets[(int) (expiryTick % buckets.length)].add(entry);
+    }
+  }
+
+  private void expireBucket(Deque<Entry<T>> bucket) {
+    Iterator<Entry<T>> iterator = bucket.iterator();
+    while (iterator.hasNext()) {
+      Entry<T> entry = iterator.next();
+      if (entry.remainingRounds > 0) {
+        entry.remainingRounds--;
+        continue;
+      }
+      iterator.remove();
+      try {
+        executor.execute(() -> expiryHandler.accept(entry.key));
+      } catch (RuntimeException e) {
+        log.error("만료 처리 실행 실패 - key: {}, cause: {}", entry.key, e.getMessage());
+      }
+    }
+  }
+
+  private static class Entry<T> {
+
+    private final T key;
+    private final long deadlineMillis;
+    private long remainingRounds;
+
+    private Entry(T key, long deadlineMillis) {
+      this.key = key;
+      this.deadlineMillis = deadlineMillis;
+    }
+  }
+}
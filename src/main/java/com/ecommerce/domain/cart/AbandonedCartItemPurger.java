@@ -0,0 +1,129 @@
+package com.ecommerce.domain.cart;
+
+import com.ecommerce.domain.cart.CartItemRepository.StaleItemRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 방치된 장바구니 항목 정리 작업.
+ * <p>
+ * 보관 기간 동안 변경되지 않은 항목을 (updated_at, id) 커서로 묶음 단위로 읽어 삭제하고 해당 장바구니 합계를 다시 계산.
+ * 묶음마다 장바구니 행을 먼저 잠가 장바구니 변경과 락 순서를 맞추고, 주문/변경 중이라 잠겨 있거나 Redis 에 올라와
+ * 있는 장바구니는 건너뛰어 다음 주기에 다시 확인하므로 주문 처리를 기다리게 하지 않음.
+ */
+@Component
+@Slf4j
+public class AbandonedCartItemPurger {
+
+  private final CartItemRepository cartItemRepository;
+  private final CartRepository cartRepository;
+  private final CartStore cartStore;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter purgedCounter;
+  private final Counter skippedCounter;
+  private final DistributionSummary runSummary;
+  private final int retentionDays;
+  private final int chunkSize;
+  private final long chunkPauseMillis;
+
+  public AbandonedCartItemPurger(CartItemRepository cartItemRepository,
+      CartRepository cartRepository,
+      CartStore cartStore,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${cart.purge.retention-days:30}") int retentionDays,
+      @Value("${cart.purge.chunk-size:500}") int chunkSize,
+      @Value("${cart.purge.chunk-pause-ms:100}") long chunkPauseMillis) {
+    this.cartItemRepository = cartItemRepository;
+    this.cartRepository = cartRepository;
+    this.cartStore = cartStore;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retentionDays = retentionDays;
+    this.chunkSize = chunkSize;
+    this.chunkPauseMillis = chunkPauseMillis;
+
+    this.purgedCounter = Counter.builder("cart.purge.purged")
+        .description("삭제한 방치 장바구니 항목 수")
+        .register(meterRegistry);
+    this.skippedCounter = Counter.builder("cart.purge.skipped")
+        .description("사용 중인 장바구니라 건너뛴 항목 수")
+        .register(meterRegistry);
+    this.runSummary = DistributionSummary.builder("cart.purge.run")
+        .description("정리 작업 한 번에 삭제한 항목 수")
+        .register(meterRegistry);
+  }
+
+  // 정리 대상이 남지 않을 때까지 묶음 단위로 삭제
+  @Scheduled(fixedDelayString = "${cart.purge.interval-ms:3600000}")
+  public void purge() {
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+    long total = 0;
+    try {
+      List<StaleItemRow> items = cartItemRepository.findStale(cutoff, chunkSize);
+      while (!items.isEmpty()) {
+        total += purgeChunk(items, cutoff);
+        if (items.size() < chunkSize) {
+          break;
+        }
+        pauseBetweenChunks();
+        StaleItemRow last = items.get(items.size() - 1);
+        items = cartItemRepository.findStaleAfter(cutoff, last.getUpdatedAt(), last.getId(),
+            chunkSize);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.warn("장바구니 항목 정리 실패, 다음 주기에 재시도", e);
+    }
+
+    runSummary.record(total);
+    if (total > 0) {
+      log.info("방치 장바구니 항목 정리 완료 - 항목 수: {}", total);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 한 묶음을 한 트랜잭션에서 처리 (장바구니 락 -> 항목 삭제 -> 합계 갱신 순)
+  private int purgeChunk(List<StaleItemRow> items, LocalDateTime cutoff) {
+    Map<Long, List<Long>> itemIdsByCart = items.stream()
+        .collect(Collectors.groupingBy(StaleItemRow::getCartId,
+            Collectors.mapping(StaleItemRow::getId, Collectors.toList())));
+    itemIdsByCart.keySet().removeAll(cartStore.findHeld(itemIdsByCart.keySet()));
+
+    Integer purged = itemIdsByCart.isEmpty() ? 0 : transactionTemplate.execute(status -> {
+      List<Long> cartIds = cartRepository.lockIdsSkipLocked(itemIdsByCart.keySet());
+      if (cartIds.isEmpty()) {
+        return 0;
+      }
+
+      List<Long> itemIds = cartIds.stream()
+          .flatMap(cartId -> itemIdsByCart.get(cartId).stream())
+          .toList();
+      int deleted = cartItemRepository.deleteStale(itemIds, cutoff);
+      cartRepository.refreshTotalsIn(cartIds);
+      return deleted;
+    });
+    purgedCounter.increment(purged);
+    skippedCounter.increment(items.size() - purged);
+    return purged;
+  }
+
+  // 복제 지연과 주문 트래픽과의 경합을 줄이기 위해 묶음 사이에 잠시 쉼
+  private void pauseBetweenChunks() throws InterruptedException {
+    if (chunkPauseMillis > 0) {
+      Thread.sleep(chunkPauseMillis);
+    }
+  }
+}
@@ -1,16 +1,17 @@
 package com.ecommerce.domain.cart;
 
 import com.ecommerce.common.entity.BaseTimeEntity;
+import com.ecommerce.common.id.Tsid;
 import com.ecommerce.domain.member.Member;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -28,7 +29,7 @@ import lombok.Setter;
 public class Cart extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   @OneToOne(fetch = FetchType.LAZY) // 사용자는 하나의 장바구니만 가짐
@@ -37,4 +38,13 @@ public class Cart extends BaseTimeEntity {
 
   @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<CartItem> cartItems = new ArrayList<>();
+
+  // 담긴 상품 수량/금액 합계 - 항목이 바뀔 때 집계 UPDATE 로만 갱신 (엔티티 저장 시에는 덮어쓰지 않음)
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private Integer itemCount = 0;
+
+  @Builder.Default
+  @Column(nullable = false, updatable = false)
+  private BigDecimal subtotal = BigDecimal.ZERO;
 }
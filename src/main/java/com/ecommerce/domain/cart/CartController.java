@@ -2,6 +2,7 @@ package com.ecommerce.domain.cart;
 
 import com.ecommerce.common.security.JwtToken;
 import com.ecommerce.domain.cart.dto.AddToCartDto;
+import com.ecommerce.domain.cart.dto.CartBulkDto;
 import com.ecommerce.domain.cart.dto.CartDto;
 import com.ecommerce.domain.cart.dto.UpdateCartItemDto;
 import jakarta.validation.Valid;
@@ -37,6 +38,16 @@ public class CartController {
     return ResponseEntity.ok(response);
   }
 
+  // 장바구니 상품 일괄 추가/수량 수정 (상품별 처리 결과 반환)
+  @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+  @PostMapping("/items/bulk")
+  public ResponseEntity<CartBulkDto.Response> applyBulk(
+      @Valid @RequestBody CartBulkDto.Request request, @JwtToken Long customerId) {
+    log.info("장바구니 상품 일괄 변경 요청 - 방식: {}, 건수: {}", request.getMode(),
+        request.getItems().size());
+    return ResponseEntity.ok(cartService.applyBulk(customerId, request));
+  }
+
   // 장바구니 ID로 조회
   @PreAuthorize("hasRole('ROLE_ADMIN')")
   @GetMapping("/{cartId}")
@@ -1,15 +1,18 @@
 package com.ecommerce.domain.cart;
 
 import com.ecommerce.common.entity.BaseTimeEntity;
+import com.ecommerce.common.id.Tsid;
 import com.ecommerce.domain.product.Product;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Min;
+import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,6 +20,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(name = "cart_item", uniqueConstraints = {
+    // 장바구니당 상품 하나에 한 행 (담기/수정/삭제 시 이 인덱스로 바로 찾음)
+    @UniqueConstraint(name = "uk_cart_item_cart_product", columnNames = {"cart_id", "product_id"})
+}, indexes = {
+    @Index(name = "idx_cart_item_product_cart", columnList = "product_id, cart_id"), // 상품 가격 변경 반영용 (장바구니 ID 순)
+    @Index(name = "idx_cart_item_updated_at", columnList = "updated_at") // 오래된 항목 정리용 (updated_at, id 순)
+})
 @Getter
 @Setter
 @Builder
@@ -25,7 +35,7 @@ import lombok.Setter;
 public class CartItem extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -38,4 +48,6 @@ public class CartItem extends BaseTimeEntity {
 
   @Min(1)
   private Integer quantity;
+
+  private BigDecimal unitPrice; // 담을 때의 상품 가격 (상품 가격 변경 시 함께 갱신)
 }
@@ -0,0 +1,115 @@
+package com.ecommerce.domain.cart;
+
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// 장바구니 항목을 장바구니 컬렉션을 읽지 않고 (cart_id, product_id) 고유 인덱스로 바로 변경
+@Repository
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+  // 일괄 변경 대상 항목 조회 및 락
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT ci FROM CartItem ci "
+      + "WHERE ci.cart.id = :cartId AND ci.product.id IN :productIds")
+  List<CartItem> findByCartIdAndProductIdsForUpdate(@Param("cartId") Long cartId,
+      @Param("productIds") Collection<Long> productIds);
+
+  // 담긴 수량에 더함 (더한 값이 maxQuantity 를 넘으면 변경하지 않음)
+  @Modifying
+  @Query(value = """
+      UPDATE cart_item SET quantity = quantity + :quantity, unit_price = :unitPrice,
+        updated_at = :now
+      WHERE cart_id = :cartId AND product_id = :productId
+        AND quantity + :quantity <= :maxQuantity
+      """, nativeQuery = true)
+  int increaseQuantity(@Param("cartId") Long cartId, @Param("productId") Long productId,
+      @Param("quantity") int quantity, @Param("maxQuantity") int maxQuantity,
+      @Param("unitPrice") BigDecimal unitPrice, @Param("now") LocalDateTime now);
+
+  // 항목이 없을 때만 추가 (추가하면 1, 같은 상품이 이미 담겨 있으면 기존 행의 updated_at 만 바꾸고 2)
+  // INSERT IGNORE 는 고유 키 충돌 외의 오류(NOT NULL, 외래 키, 값 잘림)도 경고로 바꿔 삼키므로 쓰지 않음.
+  // Connector/J 기본 설정은 값이 그대로인 행도 1 로 세므로 id = id 대신 updated_at 을 바꿔 추가와 구분함
+  @Modifying
+  @Query(value = """
+      INSERT INTO cart_item
+        (id, cart_id, product_id, quantity, unit_price, created_at, updated_at)
+      VALUES (:id, :cartId, :productId, :quantity, :unitPrice, :now, :now)
+      ON DUPLICATE KEY UPDATE updated_at = :now
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("id") Long id, @Param("cartId") Long cartId,
+      @Param("productId") Long productId, @Param("quantity") int quantity,
+      @Param("unitPrice") BigDecimal unitPrice, @Param("now") LocalDateTime now);
+
+  // 수량 변경 (Connector/J 기본 설정에서는 값이 같아도 일치한 행 수를 반환하므로 0 이면 항목 없음)
+  @Modifying
+  @Query(value = """
+      UPDATE cart_item SET quantity = :quantity, updated_at = :now
+      WHERE cart_id = :cartId AND product_id = :productId
+      """, nativeQuery = true)
+  int updateQuantity(@Param("cartId") Long cartId, @Param("productId") Long productId,
+      @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+  // 상품이 담긴 장바구니 ID 를 커서 다음부터 오름차순으로 조회 ((product_id, cart_id) 인덱스 범위 탐색)
+  @Query(value = "SELECT cart_id FROM cart_item WHERE product_id = :productId "
+      + "AND cart_id > :afterCartId ORDER BY cart_id LIMIT :limit", nativeQuery = true)
+  List<Long> findCartIdsContaining(@Param("productId") Long productId,
+      @Param("afterCartId") Long afterCartId, @Param("limit") int limit);
+
+  // 상품 가격 변경을 잠가 둔 장바구니의 항목에 반영
+  @Modifying
+  @Query(value = "UPDATE cart_item SET unit_price = :unitPrice "
+      + "WHERE product_id = :productId AND cart_id IN (:cartIds)", nativeQuery = true)
+  int updateUnitPrices(@Param("productId") Long productId,
+      @Param("cartIds") Collection<Long> cartIds, @Param("unitPrice") BigDecimal unitPrice);
+
+  // 장바구니 항목 전체를 한 번에 삭제 (항목을 읽지 않음)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "DELETE FROM cart_item WHERE cart_id = :cartId", nativeQuery = true)
+  int deleteByCartId(@Param("cartId") Long cartId);
+
+  @Modifying
+  @Query(value = "DELETE FROM cart_item WHERE cart_id = :cartId AND product_id = :productId",
+      nativeQuery = true)
+  int deleteByCartIdAndProductId(@Param("cartId") Long cartId,
+      @Param("productId") Long productId);
+
+  // 정리 대상 항목 첫 묶음 (오래된 순)
+  @Query(value = "SELECT id, cart_id AS cartId, updated_at AS updatedAt FROM cart_item "
+      + "WHERE updated_at < :cutoff ORDER BY updated_at, id LIMIT :limit", nativeQuery = true)
+  List<StaleItemRow> findStale(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+  // 커서 위치 다음부터 정리 대상 항목 조회 (updated_at 인덱스 범위 탐색)
+  @Query(value = """
+      SELECT id, cart_id AS cartId, updated_at AS updatedAt FROM cart_item
+      WHERE updated_at < :cutoff AND updated_at >= :updatedAt
+        AND (updated_at > :updatedAt OR id > :id)
+      ORDER BY updated_at, id LIMIT :limit
+      """, nativeQuery = true)
+  List<StaleItemRow> findStaleAfter(@Param("cutoff") LocalDateTime cutoff,
+      @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+      @Param("limit") int limit);
+
+  // 정리 대상 항목 삭제 (조회 이후 다시 변경된 항목은 남김)
+  @Modifying
+  @Query(value = "DELETE FROM cart_item WHERE id IN (:ids) AND updated_at < :cutoff",
+      nativeQuery = true)
+  int deleteStale(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+  interface StaleItemRow {
+
+    Long getId();
+
+    Long getCartId();
+
+    LocalDateTime getUpdatedAt();
+  }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce.domain.cart;
+
+import com.ecommerce.domain.product.ProductRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 가격 변경을 장바구니 항목 가격과 금액 합계에 반영.
+ * <p>
+ * 판매자의 상품 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 상품이 담긴 장바구니를 ID 순 묶음으로 처리. 묶음마다 장바구니 행을
+ * ID 순으로 먼저 잠근 뒤 항목을 바꾸고 합계를 다시 계산하므로 장바구니 변경/정리 작업과 락 순서(장바구니 -> 항목)가 같음.
+ * 가격은 잠금 이후에 다시 읽으므로 연달아 바뀐 가격의 반영 순서가 뒤섞여도 마지막 가격으로 맞춰짐. 반영에 실패해도
+ * 주문은 상품의 현재 가격으로 계산되므로 장바구니에 표시되는 금액만 다음 변경 때까지 이전 가격으로 남음.
+ */
+@Component
+@Slf4j
+public class CartPriceUpdater {
+
+  private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
+  private final ProductRepository productRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+
+  public CartPriceUpdater(CartRepository cartRepository,
+      CartItemRepository cartItemRepository,
+      ProductRepository productRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${cart.price-update.chunk-size:500}") int chunkSize) {
+    this.cartRepository = cartRepository;
+    this.cartItemRepository = cartItemRepository;
+    this.productRepository = productRepository;
+    // 커밋 이후 콜백에서 실행되므로 끝난 상품 트랜잭션에 참여하지 않도록 항상 새 트랜잭션
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 현재 트랜잭션이 커밋된 뒤 상품 가격을 장바구니에 반영하도록 등록
+   *
+   * @param productId 가격이 바뀐 상품 ID
+   */
+  public void applyAfterCommit(Long productId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(productId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(productId);
+      }
+    });
+  }
+
+  /**
+   * 상품이 담긴 장바구니를 묶음 단위로 현재 가격에 맞춤
+   *
+   * @param productId 상품 ID
+   * @return 가격을 바꾼 항목 수
+   */
+  public int apply(Long productId) {
+    int updated = 0;
+    try {
+      List<Long> cartIds = cartItemRepository.findCartIdsContaining(productId, 0L, chunkSize);
+      while (!cartIds.isEmpty()) {
+        updated += applyChunk(productId, cartIds);
+        if (cartIds.size() < chunkSize) {
+          break;
+        }
+        cartIds = cartItemRepository.findCartIdsContaining(productId,
+            cartIds.get(cartIds.size() - 1), chunkSize);
+      }
+    } catch (RuntimeException e) {
+      log.warn("장바구니 가격 반영 실패 - 상품 ID: {}, 반영된 항목 수: {}", productId, updated, e);
+    }
+    return updated;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 한 묶음을 한 트랜잭션에서 처리 (장바구니 락 -> 가격 조회 -> 항목 변경 -> 합계 갱신 순)
+  private int applyChunk(Long productId, List<Long> cartIds) {
+    return transactionTemplate.execute(status -> {
+      List<Long> lockedIds = cartRepository.lockIds(cartIds);
+      Optional<BigDecimal> price = productRepository.findPriceById(productId);
+      if (lockedIds.isEmpty() || price.isEmpty()) {
+        return 0;
+      }
+      int updated = cartItemRepository.updateUnitPrices(productId, lockedIds, price.get());
+      cartRepository.refreshTotalsIn(lockedIds);
+      return updated;
+    });
+  }
+}
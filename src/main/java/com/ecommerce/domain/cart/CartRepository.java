@@ -1,11 +1,84 @@
 package com.ecommerce.domain.cart;
 
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
   Optional<Cart> findByCustomerId(Long customerId);
+
+  @Query("SELECT c.id FROM Cart c WHERE c.customer.id = :customerId")
+  Optional<Long> findIdByCustomerId(@Param("customerId") Long customerId);
+
+  // 소유자 ID 만 조회 (장바구니 항목을 읽기 전 소유권 확인용)
+  @Query("SELECT c.customer.id FROM Cart c WHERE c.id = :cartId")
+  Optional<Long> findCustomerIdById(@Param("cartId") Long cartId);
+
+  // 장바구니 항목까지 한 번에 조회 (CartDto 변환용, 상품 행은 읽지 않음)
+  @EntityGraph(attributePaths = "cartItems")
+  Optional<Cart> findWithItemsById(Long cartId);
+
+  // 장바구니 항목과 상품까지 한 번에 조회 (주문/예약 시 상품 상태, 가격 확인용)
+  @EntityGraph(attributePaths = {"cartItems", "cartItems.product"})
+  @Query("SELECT c FROM Cart c WHERE c.id = :cartId")
+  Optional<Cart> findWithItemsAndProductsById(@Param("cartId") Long cartId);
+
+  // 여러 장바구니에 담긴 상품 ID (비동기 주문 묶음의 상품 락 대상)
+  @Query("SELECT DISTINCT ci.product.id FROM CartItem ci WHERE ci.cart.id IN :cartIds")
+  List<Long> findProductIdsByCartIds(@Param("cartIds") Collection<Long> cartIds);
+
+  // Redis 장바구니 DB 반영 시 장바구니 행 락 (반영끼리, 주문 완료 후 비우기와 겹치지 않도록)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM Cart c WHERE c.id = :cartId")
+  Optional<Cart> findByIdForUpdate(@Param("cartId") Long cartId);
+
+  // 정리 작업용 장바구니 락 (주문/변경 중인 장바구니는 기다리지 않고 건너뜀)
+  @Query(value = "SELECT id FROM cart WHERE id IN (:cartIds) ORDER BY id FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<Long> lockIdsSkipLocked(@Param("cartIds") Collection<Long> cartIds);
+
+  // 여러 장바구니를 ID 순으로 잠금 (상품 가격 반영, 비동기 주문 묶음용. 사용 중인 장바구니는 끝날 때까지 대기)
+  @Query(value = "SELECT id FROM cart WHERE id IN (:cartIds) ORDER BY id FOR UPDATE",
+      nativeQuery = true)
+  List<Long> lockIds(@Param("cartIds") Collection<Long> cartIds);
+
+  // 항목에서 수량/금액 합계를 다시 계산 (항목 행을 공유 락으로 읽으므로 커밋된 최신 값 기준)
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(value = """
+      UPDATE cart c SET
+        c.item_count = (SELECT COALESCE(SUM(ci.quantity), 0)
+                        FROM cart_item ci WHERE ci.cart_id = c.id),
+        c.subtotal = (SELECT COALESCE(SUM(ci.quantity * ci.unit_price), 0)
+                      FROM cart_item ci WHERE ci.cart_id = c.id)
+      WHERE c.id = :cartId
+      """, nativeQuery = true)
+  int refreshTotals(@Param("cartId") Long cartId);
+
+  // 여러 장바구니의 합계 다시 계산 (오래된 항목 정리 후)
+  @Modifying
+  @Query(value = """
+      UPDATE cart c SET
+        c.item_count = (SELECT COALESCE(SUM(ci.quantity), 0)
+                        FROM cart_item ci WHERE ci.cart_id = c.id),
+        c.subtotal = (SELECT COALESCE(SUM(ci.quantity * ci.unit_price), 0)
+                      FROM cart_item ci WHERE ci.cart_id = c.id)
+      WHERE c.id IN (:cartIds)
+      """, nativeQuery = true)
+  int refreshTotalsIn(@Param("cartIds") Collection<Long> cartIds);
+
+  // 주문 완료로 비운 장바구니 합계 초기화 (주문 트랜잭션의 영속성 컨텍스트는 유지)
+  @Modifying(flushAutomatically = true)
+  @Query(value = "UPDATE cart SET item_count = 0, subtotal = 0 WHERE id = :cartId",
+      nativeQuery = true)
+  int resetTotals(@Param("cartId") Long cartId);
 }
@@ -4,15 +4,22 @@ import com.ecommerce.common.enums.ErrorCode;
 import com.ecommerce.common.enums.ProductStatus;
 import com.ecommerce.common.exception.CustomException;
 import com.ecommerce.domain.cart.dto.AddToCartDto;
+import com.ecommerce.domain.cart.dto.CartBulkDto;
 import com.ecommerce.domain.cart.dto.CartDto;
 import com.ecommerce.domain.cart.dto.UpdateCartItemDto;
 import com.ecommerce.domain.member.Member;
 import com.ecommerce.domain.member.MemberRepository;
 import com.ecommerce.domain.product.Product;
 import com.ecommerce.domain.product.ProductRepository;
-import java.util.Optional;
+import com.ecommerce.domain.product.ProductStockService;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -20,8 +27,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CartService {
 
   private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
   private final ProductRepository productRepository;
   private final MemberRepository memberRepository;
+  private final ProductStockService productStockService;
+  private final CartStore cartStore;
+  private final CartPriceUpdater cartPriceUpdater;
 
   /**
    * 회원 가입 시 장바구니 생성
@@ -48,22 +59,61 @@ public class CartService {
     Product product = findProductById(request.getProductId());
 
     validateProductStatus(product);
-    validateProductQuantity(product, request.getQuantity());
+    // 이미 담긴 수량을 더한 값이 재고량을 넘는지는 저장 방식에서 확인
+    cartStore.add(cart, product, request.getQuantity(),
+        productStockService.getAvailableStock(product));
 
-    Optional<CartItem> existingCartItem = findCartItemByProduct(cart, product);
+    return new AddToCartDto.Response(product.getId(), request.getQuantity(), "상품 추가 완료");
+  }
 
-    if (existingCartItem.isPresent()) {
-      CartItem item = existingCartItem.get();
-      int updatedQuantity = item.getQuantity() + request.getQuantity();
-      validateProductQuantity(product, updatedQuantity);
-      item.setQuantity(updatedQuantity);
+  /**
+   * 여러 상품을 한 번에 담거나 수량 변경. 상품은 한 번에 조회/검증하고 반영할 수 있는 상품만 반영
+   *
+   * @param customerId 사용자 ID
+   * @param request    변경 방식, 상품 ID/수량 목록
+   * @return 상품별 처리 결과
+   */
+  @Transactional
+  public CartBulkDto.Response applyBulk(Long customerId, CartBulkDto.Request request) {
+    Cart cart = findCartByCustomerId(customerId);
+    CartBulkDto.Mode mode = request.getMode();
+
+    // 같은 상품이 여러 번 있으면 ADD 는 합산, UPDATE 는 마지막 값 사용
+    Map<Long, Integer> requested = new LinkedHashMap<>();
+    request.getItems().forEach(item -> requested.merge(item.getProductId(), item.getQuantity(),
+        mode == CartBulkDto.Mode.ADD ? Integer::sum : (previous, latest) -> latest));
+
+    Map<Long, Product> products = productRepository.findAllById(requested.keySet()).stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+    Map<Long, Integer> availableStocks = productStockService.getAvailableStocks(products.values());
+
+    Map<Long, CartBulkDto.Outcome> outcomes = new LinkedHashMap<>();
+    Map<Long, Integer> accepted = new LinkedHashMap<>();
+    requested.forEach((productId, quantity) -> {
+      CartBulkDto.Outcome rejected = validateBulkItem(mode, products.get(productId), quantity,
+          availableStocks.getOrDefault(productId, 0));
+      outcomes.put(productId, rejected != null ? rejected : CartBulkDto.Outcome.APPLIED);
+      if (rejected == null) {
+        accepted.put(productId, quantity);
+      }
+    });
+
+    if (mode == CartBulkDto.Mode.ADD) {
+      cartStore.addAll(cart, accepted, products, availableStocks).forEach(productId ->
+          outcomes.put(productId, CartBulkDto.Outcome.QUANTITY_EXCEEDS_STOCK));
     } else {
-      CartItem newCartItem = createCartItem(cart, product, request.getQuantity());
-      cart.getCartItems().add(newCartItem);
+      cartStore.updateAll(cart, accepted).forEach(productId ->
+          outcomes.put(productId, CartBulkDto.Outcome.ITEM_NOT_FOUND));
     }
 
-    cartRepository.save(cart);
-    return new AddToCartDto.Response(product.getId(), request.getQuantity(), "상품 추가 완료");
+    List<CartBulkDto.Result> results = requested.entrySet().stream()
+        .map(entry -> new CartBulkDto.Result(entry.getKey(), entry.getValue(),
+            outcomes.get(entry.getKey())))
+        .toList();
+    int appliedCount = (int) results.stream()
+        .filter(result -> result.getOutcome() == CartBulkDto.Outcome.APPLIED)
+        .count();
+    return new CartBulkDto.Response(mode, requested.size(), appliedCount, results);
   }
 
   /**
@@ -72,8 +122,11 @@ public class CartService {
    * @param cartId 장바구니 ID
    * @return 장바구니 정보 DTO
    */
+  @Transactional
   public CartDto getCartById(Long cartId) {
-    Cart cart = findCartById(cartId);
+    cartStore.flush(cartId);
+    Cart cart = cartRepository.findWithItemsById(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
     return CartDto.fromEntity(cart);
   }
 
@@ -83,12 +136,14 @@ public class CartService {
    * @param customerId 사용자 ID
    * @return 장바구니 정보 DTO
    */
+  @Transactional
   public CartDto getCartByCustomerId(Long customerId) {
     memberRepository.findById(customerId)
         .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-    Cart cart = findCartByCustomerId(customerId);
-    return CartDto.fromEntity(cart);
+    Long cartId = cartRepository.findIdByCustomerId(customerId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+    return getCartById(cartId);
   }
 
   /**
@@ -106,10 +161,7 @@ public class CartService {
     Product product = findProductById(productId);
 
     validateProductQuantity(product, request.getQuantity());
-
-    CartItem existingCartItem = findCartItemByProduct(cart, product)
-        .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
-    existingCartItem.setQuantity(request.getQuantity());
+    cartStore.update(cart, product.getId(), request.getQuantity());
 
     return new AddToCartDto.Response(productId, request.getQuantity(), "수량 수정 완료");
   }
@@ -120,20 +172,13 @@ public class CartService {
    * @param cartId    장바구니 ID
    * @param productId 상품 ID
    */
+  @Transactional
   public void removeProductFromCart(Long cartId, Long productId, Long customerId) {
     Cart cart = findCartById(cartId);
     Product product = findProductById(productId);
 
     validateCustomerAuthorization(customerId, cart);
-    CartItem cartItem = findCartItemByProduct(cart, product)
-        .orElseThrow(() -> new CustomException(ErrorCode.ITEM_NOT_FOUND));
-
-    if (cartItem == null) {
-      throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
-    }
-
-    cart.getCartItems().remove(cartItem);
-    cartRepository.save(cart);
+    cartStore.remove(cart, product.getId());
   }
 
   /**
@@ -141,16 +186,22 @@ public class CartService {
    *
    * @param cartId 장바구니 ID
    */
+  @Transactional
   public void clearCart(Long cartId, Long customerId) {
     Cart cart = findCartById(cartId);
     validateCustomerAuthorization(customerId, cart);
+    cartStore.clear(cart);
+  }
 
-    if (cart.getCartItems().isEmpty()) {
-      throw new CustomException(ErrorCode.CART_EMPTY);
-    }
-
-    cart.getCartItems().clear();
-    cartRepository.save(cart);
+  /**
+   * 상품 가격 변경을 담긴 장바구니 항목과 금액 합계에 반영 - 호출하는 쪽 트랜잭션이 커밋된 뒤 장바구니 묶음 단위로 실행
+   * (상품 트랜잭션 안에서 장바구니 행을 잠그면 장바구니 변경과 락 순서가 엇갈림)
+   *
+   * @param productId 상품 ID
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void applyPriceChange(Long productId) {
+    cartPriceUpdater.applyAfterCommit(productId);
   }
 
   // ================================= Helper methods ================================= //
@@ -162,15 +213,6 @@ public class CartService {
     }
   }
 
-  // 장바구니 엔티티 생성
-  private CartItem createCartItem(Cart cart, Product product, Integer quantity) {
-    return CartItem.builder()
-        .cart(cart)
-        .product(product)
-        .quantity(quantity)
-        .build();
-  }
-
   // 장바구니 조회(cartId), 없을 경우 예외
   private Cart findCartById(Long cartId) {
     return cartRepository.findById(cartId)
@@ -199,17 +241,28 @@ public class CartService {
     }
   }
 
-  // 요청 수량이 상품 재고량 초과 시 예외
-  private void validateProductQuantity(Product product, int quantity) {
-    if (quantity > product.getStockQuantity()) {
-      throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+  // 일괄 변경 상품 검증 (단건 담기/수량 변경과 같은 기준), 반영할 수 없으면 사유 반환
+  private static CartBulkDto.Outcome validateBulkItem(CartBulkDto.Mode mode, Product product,
+      int quantity, int availableStock) {
+    if (product == null) {
+      return CartBulkDto.Outcome.PRODUCT_NOT_FOUND;
+    }
+    if (mode == CartBulkDto.Mode.ADD && product.getStatus() == ProductStatus.INACTIVE) {
+      return CartBulkDto.Outcome.PRODUCT_INACTIVE;
     }
+    if (mode == CartBulkDto.Mode.ADD && product.getStatus() == ProductStatus.OUT_OF_STOCK) {
+      return CartBulkDto.Outcome.PRODUCT_OUT_OF_STOCK;
+    }
+    if (quantity > availableStock) {
+      return CartBulkDto.Outcome.QUANTITY_EXCEEDS_STOCK;
+    }
+    return null;
   }
 
-  // 장바구니에서 해당 아이템 조회, 없을 경우 null
-  private Optional<CartItem> findCartItemByProduct(Cart cart, Product product) {
-    return cart.getCartItems().stream()
-        .filter(item -> item.getProduct().getId().equals(product.getId()))
-        .findFirst();
+  // 요청 수량이 상품 재고량 초과 시 예외 (재고 분산 상품은 샤드 합계 기준)
+  private void validateProductQuantity(Product product, int quantity) {
+    if (quantity > productStockService.getAvailableStock(product)) {
+      throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+    }
   }
 }
@@ -0,0 +1,45 @@
+package com.ecommerce.domain.cart;
+
+import com.ecommerce.domain.product.Product;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 장바구니 항목 저장 방식.
+ * <p>
+ * 장바구니/상품 조회와 검증은 CartService 에서 하고, 항목 변경만 저장 방식에 맡김. 기본은 DB 에 바로 반영하며
+ * {@code cart.store=redis} 이면 Redis 해시에 반영한 뒤 DB 에는 나중에 일괄 반영 (write-behind).
+ */
+public interface CartStore {
+
+  // 수량 추가 (추가 후 수량이 maxQuantity 를 넘으면 QUANTITY_EXCEEDS_STOCK)
+  void add(Cart cart, Product product, int quantity, int maxQuantity);
+
+  // 여러 상품 수량 추가, 추가 후 수량이 상품별 maxQuantities 를 넘어 반영하지 않은 상품 ID 반환
+  Set<Long> addAll(Cart cart, Map<Long, Integer> quantities, Map<Long, Product> products,
+      Map<Long, Integer> maxQuantities);
+
+  // 담긴 상품 수량 변경 (없으면 ITEM_NOT_FOUND)
+  void update(Cart cart, Long productId, int quantity);
+
+  // 여러 상품 수량 변경, 장바구니에 없어 반영하지 않은 상품 ID 반환
+  Set<Long> updateAll(Cart cart, Map<Long, Integer> quantities);
+
+  // 상품 삭제 (없으면 ITEM_NOT_FOUND)
+  void remove(Cart cart, Long productId);
+
+  // 전체 삭제 (비어 있으면 CART_EMPTY)
+  void clear(Cart cart);
+
+  boolean isEmpty(Cart cart);
+
+  // 반영되지 않은 변경을 호출하는 쪽 트랜잭션 안에서 DB 에 반영 (장바구니를 읽기 전에 호출)
+  void flush(Long cartId);
+
+  // 주문 완료 후 장바구니 비우기 (orderedQuantities = 주문한 상품 ID 별 수량)
+  void clearAfterOrder(Cart cart, Map<Long, Integer> orderedQuantities);
+
+  // DB 항목과 별도로 최신 상태를 들고 있는 장바구니 ID (오래된 항목 정리 대상에서 제외)
+  Set<Long> findHeld(Collection<Long> cartIds);
+}
@@ -0,0 +1,173 @@
+package com.ecommerce.domain.cart;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.id.TsidGenerator;
+import com.ecommerce.domain.product.Product;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 저장 방식 - 장바구니 항목을 DB 에 바로 반영 (담기/수정/삭제는 장바구니 컬렉션을 읽지 않고 항목 행만 변경)
+// 변경마다 장바구니 행을 먼저 잠근 뒤 항목을 바꾸고 합계를 다시 계산 (같은 장바구니 변경끼리 락 순서를 맞춤)
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseCartStore implements CartStore {
+
+  private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
+  private final EntityManager entityManager;
+
+  @Override
+  public void add(Cart cart, Product product, int quantity, int maxQuantity) {
+    lockCart(cart);
+    if (!increaseOrInsert(cart, product, quantity, maxQuantity)) {
+      throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+    }
+    cartRepository.refreshTotals(cart.getId());
+  }
+
+  @Override
+  public Set<Long> addAll(Cart cart, Map<Long, Integer> quantities, Map<Long, Product> products,
+      Map<Long, Integer> maxQuantities) {
+    Set<Long> rejected = new HashSet<>();
+    if (quantities.isEmpty()) {
+      return rejected;
+    }
+
+    // 기존 항목은 한 번에 읽어 잠근 뒤 변경(flush 시 JDBC 배치로 반영)하고, 새 항목은 담기와 같은 upsert 로 추가
+    // (잠금 읽기로 없던 행을 saveAll 로 넣으면 다른 요청이 먼저 추가한 경우 고유 키 충돌로 전체가 실패함)
+    lockCart(cart);
+    Map<Long, CartItem> existing = findForUpdate(cart, quantities.keySet());
+    quantities.forEach((productId, quantity) -> {
+      CartItem item = existing.get(productId);
+      int maxQuantity = maxQuantities.getOrDefault(productId, 0);
+      if (item == null) {
+        if (!increaseOrInsert(cart, products.get(productId), quantity, maxQuantity)) {
+          rejected.add(productId);
+        }
+      } else if (item.getQuantity() + quantity > maxQuantity) {
+        rejected.add(productId);
+      } else {
+        item.setQuantity(item.getQuantity() + quantity);
+        item.setUnitPrice(products.get(productId).getPrice());
+      }
+    });
+    cartRepository.refreshTotals(cart.getId());
+    return rejected;
+  }
+
+  @Override
+  public void update(Cart cart, Long productId, int quantity) {
+    lockCart(cart);
+    if (cartItemRepository.updateQuantity(cart.getId(), productId, quantity,
+        LocalDateTime.now()) == 0) {
+      throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
+    }
+    cartRepository.refreshTotals(cart.getId());
+  }
+
+  @Override
+  public Set<Long> updateAll(Cart cart, Map<Long, Integer> quantities) {
+    Set<Long> missing = new HashSet<>(quantities.keySet());
+    if (quantities.isEmpty()) {
+      return missing;
+    }
+
+    lockCart(cart);
+    findForUpdate(cart, quantities.keySet()).forEach((productId, item) -> {
+      item.setQuantity(quantities.get(productId));
+      missing.remove(productId);
+    });
+    cartRepository.refreshTotals(cart.getId());
+    return missing;
+  }
+
+  @Override
+  public void remove(Cart cart, Long productId) {
+    lockCart(cart);
+    if (cartItemRepository.deleteByCartIdAndProductId(cart.getId(), productId) == 0) {
+      throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
+    }
+    cartRepository.refreshTotals(cart.getId());
+  }
+
+  @Override
+  public void clear(Cart cart) {
+    lockCart(cart);
+    if (deleteAllItems(cart) == 0) {
+      throw new CustomException(ErrorCode.CART_EMPTY);
+    }
+  }
+
+  @Override
+  public boolean isEmpty(Cart cart) {
+    return cart.getCartItems().isEmpty();
+  }
+
+  @Override
+  public void flush(Long cartId) {
+    // 항상 DB 에 바로 반영되므로 할 일 없음
+  }
+
+  @Override
+  public void clearAfterOrder(Cart cart, Map<Long, Integer> orderedQuantities) {
+    // 다른 변경과 같이 장바구니 행을 먼저 잠근 뒤 항목을 지움 (가격 반영/정리 작업과 락 순서를 맞춤)
+    lockCart(cart);
+    deleteAllItems(cart);
+  }
+
+  @Override
+  public Set<Long> findHeld(Collection<Long> cartIds) {
+    // DB 외에 따로 들고 있는 장바구니 없음
+    return Set.of();
+  }
+
+  // 항목을 한 번의 DELETE 로 지우고 합계 초기화. 이미 읽어 둔 장바구니와 항목은 영속성 컨텍스트에서 분리해
+  // orphan 삭제가 다시 실행되지 않고 같은 트랜잭션의 다음 조회가 빈 장바구니를 읽도록 함
+  private int deleteAllItems(Cart cart) {
+    int deleted = cartItemRepository.deleteByCartId(cart.getId());
+    cartRepository.resetTotals(cart.getId());
+    entityManager.detach(cart);
+    return deleted;
+  }
+
+  // 이미 담긴 상품이면 한 번의 UPDATE 로 수량을 더하고, 없으면 추가 (재고량을 넘으면 false)
+  private boolean increaseOrInsert(Cart cart, Product product, int quantity, int maxQuantity) {
+    LocalDateTime now = LocalDateTime.now();
+    if (cartItemRepository.increaseQuantity(cart.getId(), product.getId(), quantity, maxQuantity,
+        product.getPrice(), now) == 1) {
+      return true;
+    }
+    if (quantity > maxQuantity) {
+      return false;
+    }
+    if (cartItemRepository.insertIfAbsent(TsidGenerator.nextId(), cart.getId(), product.getId(),
+        quantity, product.getPrice(), now) == 1) {
+      return true;
+    }
+    // 다른 요청이 먼저 추가한 경우 한 번 더 더해 봄 (여기서도 실패하면 재고량 초과)
+    return cartItemRepository.increaseQuantity(cart.getId(), product.getId(), quantity,
+        maxQuantity, product.getPrice(), now) == 1;
+  }
+
+  private void lockCart(Cart cart) {
+    cartRepository.findByIdForUpdate(cart.getId());
+  }
+
+  // 장바구니의 해당 상품 항목 조회 및 락 (상품 ID 별)
+  private Map<Long, CartItem> findForUpdate(Cart cart, Collection<Long> productIds) {
+    return cartItemRepository.findByCartIdAndProductIdsForUpdate(cart.getId(), productIds)
+        .stream()
+        .collect(Collectors.toMap(item -> item.getProduct().getId(), Function.identity()));
+  }
+}
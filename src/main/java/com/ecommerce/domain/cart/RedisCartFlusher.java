@@ -0,0 +1,42 @@
+package com.ecommerce.domain.cart;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCartFlusher {
+
+  private final RedisCartStore redisCartStore;
+
+  // Redis 장바구니 변경을 주기적으로 DB 에 반영
+  @Scheduled(fixedDelayString = "${cart.redis.flush-interval-ms:5000}")
+  public void flush() {
+    try {
+      int flushed = redisCartStore.flushDirty();
+      if (flushed > 0) {
+        log.debug("장바구니 DB 반영 완료 - 장바구니 수: {}", flushed);
+      }
+    } catch (RuntimeException e) {
+      log.error("장바구니 DB 반영 실패: {}", e.getMessage());
+    }
+  }
+
+  // 유휴 장바구니를 Redis 에서 내림
+  @Scheduled(fixedDelayString = "${cart.redis.evict-interval-ms:60000}")
+  public void evict() {
+    try {
+      int evicted = redisCartStore.evictIdle();
+      if (evicted > 0) {
+        log.info("유휴 장바구니 정리 완료 - 장바구니 수: {}", evicted);
+      }
+    } catch (RuntimeException e) {
+      log.error("유휴 장바구니 정리 실패: {}", e.getMessage());
+    }
+  }
+}
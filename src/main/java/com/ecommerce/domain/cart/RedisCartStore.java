@@ -0,0 +1,286 @@
+package com.ecommerce.domain.cart;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.repository.RedisCartRepository;
+import com.ecommerce.common.repository.RedisCartRepository.CartSnapshot;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductRepository;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 저장 방식 - 사용 중인 장바구니를 Redis 해시(상품 ID -> 수량)로 관리.
+ * <p>
+ * 상품 담기/수정/삭제는 Lua 스크립트 한 번으로 처리하고, DB 에는 주문/예약/조회 직전, 주기 작업, 유휴 장바구니를
+ * 내릴 때 반영. 반영은 장바구니 행을 잠근 뒤 Redis 상태를 읽어 항목을 맞추고, 주기 작업의 커밋 이후 그 사이 변경이
+ * 없었을 때만 반영 완료로 표시하므로 반영 중에 들어온 변경은 다음 반영에 포함됨. 주문/조회 트랜잭션 안의 반영은
+ * savepoint 로 되돌려질 수 있으므로 완료 표시 없이 주기 작업이 한 번 더 반영.
+ */
+@Component
+@ConditionalOnProperty(name = "cart.store", havingValue = "redis")
+@Slf4j
+public class RedisCartStore implements CartStore {
+
+  private final RedisCartRepository redisCartRepository;
+  private final CartRepository cartRepository;
+  private final CartItemRepository cartItemRepository;
+  private final ProductRepository productRepository;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final int flushBatchSize;
+  private final long idleTimeoutMillis;
+
+  public RedisCartStore(RedisCartRepository redisCartRepository,
+      CartRepository cartRepository,
+      CartItemRepository cartItemRepository,
+      ProductRepository productRepository,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      @Value("${cart.redis.flush-batch-size:200}") int flushBatchSize,
+      @Value("${cart.redis.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+    this.redisCartRepository = redisCartRepository;
+    this.cartRepository = cartRepository;
+    this.cartItemRepository = cartItemRepository;
+    this.productRepository = productRepository;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.flushBatchSize = flushBatchSize;
+    this.idleTimeoutMillis = TimeUnit.MINUTES.toMillis(idleTimeoutMinutes);
+  }
+
+  @Override
+  public void add(Cart cart, Product product, int quantity, int maxQuantity) {
+    long result = execute(cart, () ->
+        redisCartRepository.add(cart.getId(), product.getId(), quantity, maxQuantity));
+    if (result == RedisCartRepository.REJECTED) {
+      throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+    }
+  }
+
+  @Override
+  public Set<Long> addAll(Cart cart, Map<Long, Integer> quantities, Map<Long, Product> products,
+      Map<Long, Integer> maxQuantities) {
+    // 상품마다 스크립트 한 번 (각 상품 단위로 원자적)
+    Set<Long> rejected = new HashSet<>();
+    quantities.forEach((productId, quantity) -> {
+      long result = execute(cart, () -> redisCartRepository.add(cart.getId(), productId,
+          quantity, maxQuantities.getOrDefault(productId, 0)));
+      if (result == RedisCartRepository.REJECTED) {
+        rejected.add(productId);
+      }
+    });
+    return rejected;
+  }
+
+  @Override
+  public void update(Cart cart, Long productId, int quantity) {
+    long result = execute(cart, () -> redisCartRepository.set(cart.getId(), productId, quantity));
+    if (result == RedisCartRepository.REJECTED) {
+      throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
+    }
+  }
+
+  @Override
+  public Set<Long> updateAll(Cart cart, Map<Long, Integer> quantities) {
+    Set<Long> missing = new HashSet<>();
+    quantities.forEach((productId, quantity) -> {
+      long result = execute(cart, () -> redisCartRepository.set(cart.getId(), productId,
+          quantity));
+      if (result == RedisCartRepository.REJECTED) {
+        missing.add(productId);
+      }
+    });
+    return missing;
+  }
+
+  @Override
+  public void remove(Cart cart, Long productId) {
+    long result = execute(cart, () -> redisCartRepository.remove(cart.getId(), productId));
+    if (result == RedisCartRepository.REJECTED) {
+      throw new CustomException(ErrorCode.ITEM_NOT_FOUND);
+    }
+  }
+
+  @Override
+  public void clear(Cart cart) {
+    long result = execute(cart, () -> redisCartRepository.clear(cart.getId()));
+    if (result == RedisCartRepository.REJECTED) {
+      throw new CustomException(ErrorCode.CART_EMPTY);
+    }
+  }
+
+  @Override
+  public boolean isEmpty(Cart cart) {
+    CartSnapshot snapshot = redisCartRepository.snapshot(cart.getId());
+    return snapshot != null ? snapshot.quantities().isEmpty() : cart.getCartItems().isEmpty();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void flush(Long cartId) {
+    // 반영 완료 표시는 하지 않음 (호출하는 쪽에서 savepoint 로 되돌릴 수 있음)
+    if (redisCartRepository.isDirty(cartId)) {
+      persist(cartId);
+    }
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void clearAfterOrder(Cart cart, Map<Long, Integer> orderedQuantities) {
+    // 주기 반영과 겹치지 않도록 장바구니 행을 잠근 뒤 비움
+    cartRepository.findByIdForUpdate(cart.getId());
+    // 주문 중에 새로 담은 상품은 남도록 주문한 수량만 커밋 전에 장바구니 락을 쥔 채 차감. 커밋 이후에 차감하면
+    // 차감 전에 반영 작업이 주문한 항목을 다시 기록할 수 있고, 차감에 실패하면 주문한 항목이 그대로 남음.
+    // 차감에 실패하면 주문도 실패하고, 주문 트랜잭션이 롤백되면 차감한 수량을 되돌림
+    if (redisCartRepository.subtract(cart.getId(), orderedQuantities)) {
+      afterRollback(() -> redisCartRepository.restore(cart.getId(), orderedQuantities));
+    }
+    // 항목은 한 번의 DELETE 로 지우고, 읽어 둔 장바구니는 분리해 orphan 삭제가 다시 실행되지 않도록 함
+    cartItemRepository.deleteByCartId(cart.getId());
+    cartRepository.resetTotals(cart.getId());
+    entityManager.detach(cart);
+  }
+
+  @Override
+  public Set<Long> findHeld(Collection<Long> cartIds) {
+    // Redis 에 올라와 있는 장바구니는 DB 항목만 지우면 다음 반영 때 되살아나거나 Redis 와 어긋남
+    return redisCartRepository.findLoaded(cartIds);
+  }
+
+  /**
+   * 변경된 장바구니를 DB 에 반영 (장바구니마다 별도 트랜잭션)
+   *
+   * @return 반영한 장바구니 수
+   */
+  public int flushDirty() {
+    List<Long> cartIds = redisCartRepository.findDirty(System.currentTimeMillis(),
+        flushBatchSize);
+    int flushed = 0;
+    for (Long cartId : cartIds) {
+      if (flushInNewTransaction(cartId)) {
+        flushed++;
+      }
+    }
+    return flushed;
+  }
+
+  /**
+   * 일정 시간 사용되지 않은 장바구니를 DB 에 반영한 뒤 Redis 에서 내림
+   *
+   * @return 내린 장바구니 수
+   */
+  public int evictIdle() {
+    long idleBefore = System.currentTimeMillis() - idleTimeoutMillis;
+    int evicted = 0;
+    for (Map.Entry<Long, Double> entry :
+        redisCartRepository.findIdle(idleBefore, flushBatchSize).entrySet()) {
+      Long cartId = entry.getKey();
+      if (redisCartRepository.isDirty(cartId) && !flushInNewTransaction(cartId)) {
+        continue;
+      }
+      if (redisCartRepository.evict(cartId, entry.getValue())) {
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // Redis 에 올라와 있지 않으면 DB 항목으로 올린 뒤 한 번 더 실행
+  private long execute(Cart cart, LongSupplier mutation) {
+    long result = mutation.getAsLong();
+    if (result == RedisCartRepository.NOT_LOADED) {
+      redisCartRepository.load(cart.getId(), cart.getCartItems().stream()
+          .collect(Collectors.toMap(item -> item.getProduct().getId(), CartItem::getQuantity,
+              Integer::sum)));
+      result = mutation.getAsLong();
+    }
+    return result;
+  }
+
+  private boolean flushInNewTransaction(Long cartId) {
+    try {
+      Long version = transactionTemplate.execute(status -> persist(cartId));
+      // 커밋된 이후 그 사이 변경이 없었으면 반영 완료 표시
+      if (version != null) {
+        redisCartRepository.markFlushed(cartId, version);
+      }
+      return true;
+    } catch (CustomException e) {
+      // DB 에서 장바구니가 삭제된 경우 더 이상 반영할 곳이 없으므로 정리
+      log.warn("장바구니 DB 반영 불가, Redis 에서 제거 - 장바구니 ID: {}, 사유: {}", cartId,
+          e.getMessage());
+      redisCartRepository.discard(cartId);
+      return false;
+    } catch (RuntimeException e) {
+      log.error("장바구니 DB 반영 실패 - 장바구니 ID: {}", cartId, e);
+      return false;
+    }
+  }
+
+  // 장바구니 행을 잠근 뒤 Redis 상태를 읽어 DB 항목을 맞춤, 반영한 변경 횟수 반환 (올라와 있지 않으면 null)
+  private Long persist(Long cartId) {
+    Cart cart = cartRepository.findByIdForUpdate(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+    // 락 획득 이후에 읽어야 먼저 커밋된 반영보다 오래된 상태로 덮어쓰지 않음
+    CartSnapshot snapshot = redisCartRepository.snapshot(cartId);
+    if (snapshot == null) {
+      return null;
+    }
+
+    Map<Long, Integer> remaining = new HashMap<>(snapshot.quantities());
+    cart.getCartItems().removeIf(item -> {
+      Integer quantity = remaining.remove(item.getProduct().getId());
+      if (quantity == null) {
+        return true;
+      }
+      item.setQuantity(quantity);
+      return false;
+    });
+    // 새로 담긴 상품만 조회해 담을 때의 가격 기록
+    productRepository.findAllById(remaining.keySet()).forEach(product ->
+        cart.getCartItems().add(CartItem.builder()
+            .cart(cart)
+            .product(product)
+            .quantity(remaining.get(product.getId()))
+            .unitPrice(product.getPrice())
+            .build()));
+    cartRepository.refreshTotals(cartId);
+    return snapshot.version();
+  }
+
+  private static void afterRollback(Runnable action) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status != STATUS_COMMITTED) {
+          try {
+            action.run();
+          } catch (RuntimeException e) {
+            log.error("주문 롤백 후 Redis 장바구니 차감 복구 실패", e);
+          }
+        }
+      }
+    });
+  }
+}
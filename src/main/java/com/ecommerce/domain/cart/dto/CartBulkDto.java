@@ -0,0 +1,85 @@
+package com.ecommerce.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class CartBulkDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Request {
+
+    @NotNull(message = "변경 방식은 필수입니다.")
+    private Mode mode;
+
+    @NotEmpty(message = "상품 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개 상품까지 변경할 수 있습니다.")
+    private List<@Valid @NotNull Item> items;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Item {
+
+    @NotNull(message = "상품 ID는 필수입니다.")
+    private Long productId;
+
+    @NotNull(message = "상품 수량은 필수입니다.")
+    @Min(value = 1, message = "상품 수량은 1 이상이어야 합니다.")
+    private Integer quantity;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private Mode mode;
+    private int requestedCount;
+    private int appliedCount;
+    private List<Result> results;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Result {
+
+    private Long productId;
+    private Integer quantity; // 요청 수량 (같은 상품이 여러 번 있으면 ADD 는 합계, UPDATE 는 마지막 값)
+    private Outcome outcome;
+  }
+
+  public enum Mode {
+    ADD,    // 담긴 수량에 더함 (없으면 추가)
+    UPDATE  // 담긴 상품의 수량을 바꿈
+  }
+
+  public enum Outcome {
+    APPLIED,                // 반영 완료
+    PRODUCT_NOT_FOUND,      // 상품 없음
+    PRODUCT_INACTIVE,       // 판매 중지 상품
+    PRODUCT_OUT_OF_STOCK,   // 품절 상품
+    QUANTITY_EXCEEDS_STOCK, // 재고량 초과
+    ITEM_NOT_FOUND          // 장바구니에 없는 상품 (UPDATE)
+  }
+}
@@ -21,6 +21,7 @@ public class CartDto {
   private Long cartId;
   private Long customerId;
   private List<CartItemDto> cartItems;
+  private Integer itemCount; // 담긴 상품 수량 합계
   private BigDecimal totalPrice;
 
   public static CartDto fromEntity(Cart cartEntity) {
@@ -30,10 +31,8 @@ public class CartDto {
         .cartItems(cartEntity.getCartItems().stream()
             .map(CartItemDto::fromEntity)
             .collect(Collectors.toList()))
-        .totalPrice(cartEntity.getCartItems().stream()
-            .map(item -> item.getProduct().getPrice()
-                .multiply(BigDecimal.valueOf(item.getQuantity())))
-            .reduce(BigDecimal.ZERO, BigDecimal::add))
+        .itemCount(cartEntity.getItemCount())
+        .totalPrice(cartEntity.getSubtotal())
         .build();
   }
 }
\ No newline at end of file
@@ -25,7 +25,7 @@ public class CartItemDto {
         .cartItemId(cartItemEntity.getId())
         .productId(cartItemEntity.getProduct().getId())
         .quantity(cartItemEntity.getQuantity())
-        .productPrice(cartItemEntity.getProduct().getPrice())
+        .productPrice(cartItemEntity.getUnitPrice())
         .build();
   }
 }
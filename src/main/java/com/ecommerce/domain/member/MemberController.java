@@ -3,6 +3,7 @@ package com.ecommerce.domain.member;
 import static org.springframework.http.HttpStatus.CREATED;
 
 import com.ecommerce.common.enums.Role;
+import com.ecommerce.common.pagination.CursorSlice;
 import com.ecommerce.common.security.JwtToken;
 import com.ecommerce.domain.member.dto.EmailVerificationDto;
 import com.ecommerce.domain.member.dto.EmailVerificationRequestDto;
@@ -126,6 +127,16 @@ public class MemberController {
     return ResponseEntity.ok(members);
   }
 
+  // 전체 회원 커서 조회 - 최신순
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorSlice<MemberDto>> scrollAllMembers(
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "10") int size) {
+    log.info("전체 회원 정보 커서 조회 요청 - 최신순");
+    return ResponseEntity.ok(memberService.scrollAllMembers(cursor, size));
+  }
+
   // 회원 정보 업데이트
   @PreAuthorize(ROLE_ACCESS_CONDITION)
   @PutMapping("/{memberId}")
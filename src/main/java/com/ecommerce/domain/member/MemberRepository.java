@@ -1,10 +1,15 @@
 package com.ecommerce.domain.member;
 
 import com.ecommerce.common.enums.Role;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,4 +24,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
   boolean existsByPhoneNumberAndIdNot(String phone, Long id);
 
   Page<Member> findMemberByRole(Role role, Pageable pageable);
+
+  // 최신순 첫 페이지 (count 없이 limit 만큼)
+  @Query("SELECT m FROM Member m ORDER BY m.createdAt DESC, m.id DESC")
+  List<Member> findLatest(Limit limit);
+
+  // 커서 위치 다음부터 최신순 조회 (created_at, id 인덱스 범위 탐색)
+  @Query("SELECT m FROM Member m WHERE m.createdAt <= :createdAt "
+      + "AND (m.createdAt < :createdAt OR m.id < :id) ORDER BY m.createdAt DESC, m.id DESC")
+  List<Member> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id, Limit limit);
 }
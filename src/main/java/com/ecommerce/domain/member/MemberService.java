@@ -3,6 +3,8 @@ package com.ecommerce.domain.member;
 import com.ecommerce.common.enums.ErrorCode;
 import com.ecommerce.common.enums.Role;
 import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.pagination.Cursor;
+import com.ecommerce.common.pagination.CursorSlice;
 import com.ecommerce.common.repository.RedisCacheRepository;
 import com.ecommerce.common.security.TokenProvider;
 import com.ecommerce.domain.cart.CartService;
@@ -11,9 +13,11 @@ import com.ecommerce.domain.member.dto.MemberUpdateDto;
 import com.ecommerce.domain.member.dto.SignInDto;
 import com.ecommerce.domain.member.dto.SignUpDto;
 import com.ecommerce.domain.member.dto.SignUpDto.Request;
+import java.util.List;
 import java.util.Locale;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -132,6 +136,29 @@ public class MemberService {
     return members.map(MemberDto::fromEntity);
   }
 
+  /**
+   * 전체 회원 커서 조회 - 최신순 (페이지 깊이와 관계없이 같은 비용)
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param size   조회 개수
+   * @return 회원 목록
+   */
+  public CursorSlice<MemberDto> scrollAllMembers(String cursor, int size) {
+    int limit = CursorSlice.normalizeSize(size);
+    List<Member> rows;
+    if (cursor == null) {
+      rows = memberRepository.findLatest(Limit.of(limit + 1));
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      rows = memberRepository.findLatestBefore(position.createdAt(), position.id(),
+          Limit.of(limit + 1));
+    }
+
+    return CursorSlice.of(rows, limit,
+        member -> new Cursor(member.getCreatedAt(), member.getId()),
+        page -> page.stream().map(MemberDto::fromEntity).toList());
+  }
+
   /**
    * 회원 정보 업데이트
    *
@@ -2,6 +2,7 @@ package com.ecommerce.domain.order;
 
 import com.ecommerce.common.entity.BaseTimeEntity;
 import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.id.Tsid;
 import com.ecommerce.domain.cart.Cart;
 import com.ecommerce.domain.member.Member;
 import jakarta.persistence.CascadeType;
@@ -9,13 +10,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,7 +27,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_status_updated_at", columnList = "status, updated_at"),
+    @Index(name = "idx_orders_created_at_id", columnList = "created_at, id") // 기간별 내보내기/매출 재구성용
+})
 @Getter
 @Setter
 @Builder
@@ -35,7 +39,7 @@ import lombok.Setter;
 public class Order extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +59,9 @@ public class Order extends BaseTimeEntity {
   @JoinColumn(name = "cart_id", nullable = false)
   private Cart cart;
 
+  @Version
+  private Long version; // 낙관적 락 (동시 상태 변경 감지)
+
   public void addOrderItems(List<OrderItem> orderItems) {
     this.orderItems = new ArrayList<>(orderItems);
     BigDecimal calculatedTotalPrice = BigDecimal.ZERO;
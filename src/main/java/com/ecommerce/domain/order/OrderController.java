@@ -1,16 +1,28 @@
 package com.ecommerce.domain.order;
 
+import com.ecommerce.common.enums.ExportFormat;
 import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.pagination.CursorSlice;
+import com.ecommerce.common.retry.OptimisticLockRetryTemplate;
 import com.ecommerce.common.security.JwtToken;
 import com.ecommerce.domain.order.dto.OrderCreateDto;
 import com.ecommerce.domain.order.dto.OrderDto;
+import com.ecommerce.domain.order.dto.OrderReservationDto;
+import com.ecommerce.domain.order.dto.OrderStatusBulkDto;
+import com.ecommerce.domain.order.dto.OrderSummaryDto;
+import com.ecommerce.domain.order.dto.OrderTicketDto;
 import com.ecommerce.domain.order.dto.OrderUpdateDto;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,9 +30,11 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,19 +43,70 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
   private final OrderService orderService;
+  private final OrderReservationService orderReservationService;
+  private final OrderIdempotencyService orderIdempotencyService;
+  private final OrderIntakeService orderIntakeService;
+  private final OrderSummaryService orderSummaryService;
+  private final OrderExportService orderExportService;
+  private final OptimisticLockRetryTemplate retryTemplate;
+
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
 
   private static final String ROLE_ACCESS_CONDITION =
       "hasRole('ROLE_CUSTOMER') or hasRole('ROLE_ADMIN')";
 
-  // 주문 생성
+  // 주문 생성 (Idempotency-Key 헤더가 있으면 같은 키의 재요청에 첫 응답을 그대로 반환)
   @PreAuthorize("hasRole('ROLE_CUSTOMER')")
   @PostMapping
   public ResponseEntity<OrderCreateDto.Response> createOrder(
-      @Valid @RequestBody OrderCreateDto.Request orderCreateRequest, @JwtToken Long customerId) {
+      @Valid @RequestBody OrderCreateDto.Request orderCreateRequest, @JwtToken Long customerId,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
     log.info("주문 생성 요청");
-    OrderCreateDto.Response response = orderService.createOrder(customerId, orderCreateRequest);
+    if (idempotencyKey == null) {
+      OrderCreateDto.Response response = retryTemplate.execute("order.create",
+          () -> orderService.createOrder(customerId, orderCreateRequest));
+      log.info("주문 생성 완료 - cart ID: {}", orderCreateRequest.getCartId());
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
 
-    log.info("주문 생성 완료 - cart ID: {}", orderCreateRequest.getCartId());
+    // 완료 기록은 주문 트랜잭션 안에서 저장
+    Supplier<OrderCreateDto.Response> createOrder = () -> retryTemplate.execute("order.create",
+        () -> orderService.createOrder(customerId, orderCreateRequest, idempotencyKey));
+    OrderIdempotencyService.Result result = orderIdempotencyService.createOnce(customerId,
+        idempotencyKey, orderCreateRequest, createOrder);
+    log.info("주문 생성 완료 - cart ID: {}, 재전송: {}", orderCreateRequest.getCartId(),
+        result.replayed());
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+        .body(result.response());
+  }
+
+  // 비동기 주문 접수 - 검증 후 대기열에 넣고 접수 번호 반환 (대기열이 가득 차면 503)
+  @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+  @PostMapping("/async")
+  public ResponseEntity<OrderTicketDto.Response> submitOrder(
+      @Valid @RequestBody OrderCreateDto.Request orderCreateRequest, @JwtToken Long customerId) {
+    log.info("비동기 주문 접수 요청 - cart ID: {}", orderCreateRequest.getCartId());
+    OrderTicketDto.Response ticket = orderIntakeService.submit(customerId, orderCreateRequest);
+    return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+  }
+
+  // 비동기 주문 처리 결과 조회
+  @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+  @GetMapping("/tickets/{ticketId}")
+  public ResponseEntity<OrderTicketDto.Response> getOrderTicket(
+      @PathVariable("ticketId") Long ticketId, @JwtToken Long customerId) {
+    return ResponseEntity.ok(orderIntakeService.getTicket(customerId, ticketId));
+  }
+
+  // 결제 시작 - 장바구니 상품 재고 예약
+  @PreAuthorize("hasRole('ROLE_CUSTOMER')")
+  @PostMapping("/reservation")
+  public ResponseEntity<OrderReservationDto.Response> reserveStock(
+      @Valid @RequestBody OrderReservationDto.Request request, @JwtToken Long customerId) {
+    log.info("재고 예약 요청 - cart ID: {}", request.getCartId());
+    OrderReservationDto.Response response = orderReservationService.reserve(customerId, request);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
@@ -84,13 +149,77 @@ public class OrderController {
     return ResponseEntity.ok(orders);
   }
 
+  // 사용자 ID로 주문 요약 조회 (주문 항목 제외)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/summaries/customer")
+  public ResponseEntity<Page<OrderSummaryDto>> getOrderSummariesByCustomerId(
+      @RequestParam Long customerId, Pageable pageable) {
+    log.info("주문 요약 목록 조회 요청 - 사용자 ID: {}", customerId);
+    return ResponseEntity.ok(orderService.getOrderSummariesByCustomerId(customerId, pageable));
+  }
+
+  // 주문 상태로 주문 요약 조회 (주문 항목 제외)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/summaries/status/{status}")
+  public ResponseEntity<Page<OrderSummaryDto>> getOrderSummariesByStatus(
+      @PathVariable("status") OrderStatus status, Pageable pageable) {
+    log.info("주문 상태별 요약 조회 요청 - 상태: {}", status);
+    return ResponseEntity.ok(orderService.getOrderSummariesByStatus(status, pageable));
+  }
+
+  // 전체 주문 요약 조회 - 최신순 (주문 항목 제외)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/summaries")
+  public ResponseEntity<Page<OrderSummaryDto>> getAllOrderSummaries(Pageable pageable) {
+    log.info("모든 주문 요약 목록 조회");
+    return ResponseEntity.ok(orderService.getAllOrderSummaries(pageable));
+  }
+
+  // 주문 내보내기 - 기간(시작일~종료일)과 상태 조건, CSV 또는 NDJSON 으로 스트리밍
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportOrders(
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(value = "status", required = false) OrderStatus status,
+      @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+    log.info("주문 내보내기 요청 - 기간: {} ~ {}, 상태: {}, 형식: {}", from, to, status, format);
+    orderExportService.validateRange(from, to);
+
+    String filename = "orders-" + from + "_" + to + "." + format.getExtension();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(format.getContentType()))
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+        .body(out -> orderExportService.export(from, to, status, format, out));
+  }
+
+  // 주문 요약 재구성 (주문 테이블 기준으로 목록용 요약을 다시 계산)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PostMapping("/summaries/rebuild")
+  public ResponseEntity<String> rebuildOrderSummaries() {
+    log.info("주문 요약 재구성 요청");
+    long affected = orderSummaryService.rebuild();
+    return ResponseEntity.ok("주문 요약 재구성 완료 - 반영 행 수: " + affected);
+  }
+
+  // 전체 주문 커서 조회 - 최신순
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorSlice<OrderSummaryDto>> scrollAllOrders(
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "10") int size) {
+    log.info("모든 주문 목록 커서 조회");
+    return ResponseEntity.ok(orderService.scrollAllOrders(cursor, size));
+  }
+
   // 사용자 주문 취소
   @PreAuthorize(ROLE_ACCESS_CONDITION)
   @PatchMapping("/{orderId}/cancel")
   public ResponseEntity<OrderDto> cancelOrder(@PathVariable("orderId") Long orderId,
       @JwtToken Long customerId) {
     log.info("주문 취소 요청 - 주문 ID: {}", orderId);
-    OrderDto order = orderService.cancelOrder(orderId, customerId);
+    OrderDto order = retryTemplate.execute("order.cancel",
+        () -> orderService.cancelOrder(orderId, customerId));
     return ResponseEntity.ok(order);
   }
 
@@ -101,10 +230,21 @@ public class OrderController {
       @PathVariable("orderId") Long orderId,
       @RequestParam("status") OrderStatus status) {
     log.info("주문 상태 변경 요청 - 주문 ID: {}, 상태: {}", orderId, status);
-    OrderDto orderStatus = orderService.updateOrderStatus(orderId, status);
+    OrderDto orderStatus = retryTemplate.execute("order.status",
+        () -> orderService.updateOrderStatus(orderId, status));
     return ResponseEntity.ok(orderStatus);
   }
 
+  // 주문 상태 일괄 수정 (주문별 처리 결과 반환)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PatchMapping("/status")
+  public ResponseEntity<OrderStatusBulkDto.Response> changeOrderStatuses(
+      @Valid @RequestBody OrderStatusBulkDto.Request request) {
+    log.info("주문 상태 일괄 변경 요청 - 건수: {}, 상태: {}", request.getOrderIds().size(),
+        request.getStatus());
+    return ResponseEntity.ok(orderService.updateOrderStatuses(request));
+  }
+
   // 주문 배송지 수정
   @PreAuthorize(ROLE_ACCESS_CONDITION)
   @PatchMapping("/{orderId}/delivery-address")
@@ -0,0 +1,257 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.ExportFormat;
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.domain.order.OrderRepository.OrderExportRow;
+import com.ecommerce.domain.order.archive.ArchivedOrderRepository;
+import com.ecommerce.domain.order.dto.OrderExportDto;
+import com.ecommerce.domain.order.dto.OrderItemDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 내보내기 (관리자 정산/리포트용).
+ * <p>
+ * 주문 항목 단위 행을 DB 커서로 한 행씩 읽어 바로 응답에 쓰므로 결과 크기와 관계없이 메모리 사용량이 일정함.
+ * 보관 테이블의 주문을 먼저, 운영 테이블의 주문을 그 다음에 각각 생성 시각, 주문 ID 순으로 내보내며 일정 행마다 flush.
+ * 기간 조건은 (created_at, id) 인덱스 범위로 읽고 같은 순서로 내보내 정렬 없이 스트리밍함 (TSID 도입 전 주문 ID 는
+ * 시각과 무관하므로 ID 범위로 좁히지 않음).
+ */
+@Service
+@Slf4j
+public class OrderExportService {
+
+  private static final String CSV_HEADER = "order_id,customer_id,status,delivery_address,"
+      + "total_price,created_at,order_item_id,product_id,product_name,seller_id,quantity,price";
+
+  private final OrderRepository orderRepository;
+  private final ArchivedOrderRepository archivedOrderRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final int flushRows;
+  private final int maxRangeDays;
+
+  public OrderExportService(OrderRepository orderRepository,
+      ArchivedOrderRepository archivedOrderRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.export.flush-rows:500}") int flushRows,
+      @Value("${order.export.max-range-days:366}") int maxRangeDays) {
+    this.orderRepository = orderRepository;
+    this.archivedOrderRepository = archivedOrderRepository;
+    this.objectMapper = objectMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.flushRows = flushRows;
+    this.maxRangeDays = maxRangeDays;
+  }
+
+  /**
+   * 내보내기 기간 검증 (응답을 쓰기 시작하기 전에 호출)
+   *
+   * @param from 시작일 (포함)
+   * @param to   종료일 (포함)
+   */
+  public void validateRange(LocalDate from, LocalDate to) {
+    if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+      throw new CustomException(ErrorCode.INVALID_EXPORT_RANGE);
+    }
+  }
+
+  /**
+   * 기간/상태 조건에 맞는 주문을 지정한 형식으로 출력 스트림에 씀
+   *
+   * @param from   시작일 (포함)
+   * @param to     종료일 (포함)
+   * @param status 주문 상태 (null 이면 전체)
+   * @param format 출력 형식
+   * @param out    응답 출력 스트림
+   */
+  public void export(LocalDate from, LocalDate to, OrderStatus status, ExportFormat format,
+      OutputStream out) throws IOException {
+    LocalDateTime start = from.atStartOfDay();
+    LocalDateTime end = to.plusDays(1).atStartOfDay();
+    String statusName = status != null ? status.name() : null;
+
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    RowWriter rowWriter = format == ExportFormat.CSV
+        ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+    try {
+      long rows = transactionTemplate.execute(txStatus -> {
+        rowWriter.start();
+        // 스트리밍 중에는 같은 커넥션에서 다른 쿼리를 실행할 수 없으므로 하나씩 끝까지 읽음
+        try (Stream<OrderExportRow> archived =
+            archivedOrderRepository.streamForExport(start, end, statusName)) {
+          archived.forEach(rowWriter::write);
+        }
+        try (Stream<OrderExportRow> hot = orderRepository.streamForExport(start, end,
+            statusName)) {
+          hot.forEach(rowWriter::write);
+        }
+        rowWriter.finish();
+        return rowWriter.rowCount;
+      });
+      log.info("주문 내보내기 완료 - 기간: {} ~ {}, 형식: {}, 행 수: {}", from, to, format, rows);
+    } catch (UncheckedIOException e) {
+      // 클라이언트 연결이 끊긴 경우 등
+      throw e.getCause();
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 행 단위 출력 (일정 행마다 flush 해서 응답을 바로 내보냄)
+  private abstract class RowWriter {
+
+    protected final Writer writer;
+    private long rowCount;
+
+    RowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    void start() {
+    }
+
+    void write(OrderExportRow row) {
+      try {
+        writeRow(row);
+        if (++rowCount % flushRows == 0) {
+          writer.flush();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    void finish() {
+      try {
+        finishRows();
+        writer.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    abstract void writeRow(OrderExportRow row) throws IOException;
+
+    void finishRows() throws IOException {
+    }
+  }
+
+  // CSV - 주문 항목 한 줄씩 (주문 정보는 항목마다 반복)
+  private class CsvRowWriter extends RowWriter {
+
+    CsvRowWriter(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    void start() {
+      try {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    void writeRow(OrderExportRow row) throws IOException {
+      writer.write(String.join(",",
+          String.valueOf(row.getOrderId()),
+          String.valueOf(row.getCustomerId()),
+          row.getStatus(),
+          csvField(row.getDeliveryAddress()),
+          row.getTotalPrice().toPlainString(),
+          String.valueOf(row.getCreatedAt()),
+          String.valueOf(row.getOrderItemId()),
+          String.valueOf(row.getProductId()),
+          csvField(row.getProductName()),
+          row.getSellerId() != null ? String.valueOf(row.getSellerId()) : "",
+          String.valueOf(row.getQuantity()),
+          row.getPrice().toPlainString()));
+      writer.write('\n');
+    }
+  }
+
+  // NDJSON - 주문 한 줄씩 (행이 주문 ID 순이므로 현재 주문의 항목만 모아두면 됨)
+  private class NdjsonRowWriter extends RowWriter {
+
+    private OrderExportDto current;
+
+    NdjsonRowWriter(Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    void writeRow(OrderExportRow row) throws IOException {
+      if (current != null && !current.getOrderId().equals(row.getOrderId())) {
+        writeCurrent();
+      }
+      if (current == null) {
+        current = OrderExportDto.builder()
+            .orderId(row.getOrderId())
+            .customerId(row.getCustomerId())
+            .status(OrderStatus.valueOf(row.getStatus()))
+            .deliveryAddress(row.getDeliveryAddress())
+            .totalPrice(row.getTotalPrice())
+            .createdAt(row.getCreatedAt())
+            .orderItems(new ArrayList<>())
+            .build();
+      }
+      current.getOrderItems().add(OrderItemDto.builder()
+          .orderItemId(row.getOrderItemId())
+          .productId(row.getProductId())
+          .productName(row.getProductName())
+          .sellerId(row.getSellerId())
+          .quantity(row.getQuantity())
+          .price(row.getPrice())
+          .build());
+    }
+
+    @Override
+    void finishRows() throws IOException {
+      if (current != null) {
+        writeCurrent();
+      }
+    }
+
+    private void writeCurrent() throws IOException {
+      writer.write(objectMapper.writeValueAsString(current));
+      writer.write('\n');
+      current = null;
+    }
+  }
+
+  // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+  private static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.contains(",") || value.contains("\"") || value.contains("\n")
+        || value.contains("\r")) {
+      return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    return value;
+  }
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.entity.BaseTimeEntity;
+import com.ecommerce.common.id.Tsid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 완료된 주문 생성 요청의 Idempotency-Key (주문과 같은 트랜잭션에서 기록해 같은 키로 주문이 두 번 생기지 않도록 함)
+@Entity
+@Table(name = "order_idempotency_key", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_order_idempotency_key_member_key",
+        columnNames = {"member_id", "idempotency_key"})
+}, indexes = {
+    @Index(name = "idx_order_idempotency_key_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyKey extends BaseTimeEntity {
+
+  @Id
+  @Tsid
+  private Long id;
+
+  @Column(name = "member_id", nullable = false)
+  private Long customerId;
+
+  @Column(nullable = false, length = 100)
+  private String idempotencyKey;
+
+  @Column(nullable = false)
+  private String fingerprint;
+
+  @Column(columnDefinition = "TEXT")
+  private String response; // JSON
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.order;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+
+  Optional<OrderIdempotencyKey> findByCustomerIdAndIdempotencyKey(Long customerId,
+      String idempotencyKey);
+
+  // 보관 기간이 지난 기록 삭제 (한 번에 limit 건)
+  @Modifying
+  @Query(value = "DELETE FROM order_idempotency_key WHERE created_at < :cutoff LIMIT :limit",
+      nativeQuery = true)
+  int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,305 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.repository.RedisCacheRepository;
+import com.ecommerce.domain.order.dto.OrderCreateDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PreDestroy;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 생성 멱등성 처리 (Idempotency-Key).
+ * <p>
+ * 첫 요청이 Redis 에 처리 중 표시를 원자적으로 선점하고, 완료되면 응답을 저장. 처리 중에 들어온 중복 요청은 결과가
+ * 저장될 때까지 기다렸다가 같은 응답을 받고, 이후의 중복 요청은 DB 를 거치지 않고 저장된 응답을 받음.
+ * 실패한 요청은 표시를 지워 클라이언트가 같은 키로 다시 시도할 수 있게 함.
+ * <p>
+ * Redis 표시는 빠른 경로일 뿐이고 중복 방지의 기준은 주문과 같은 트랜잭션에서 쓰는 {@link OrderIdempotencyKey}
+ * (사용자 ID, 키 unique). 처리가 길어지면 표시의 만료 시간을 주기적으로 연장하고, 표시가 사라지거나 응답 저장이
+ * 실패해 같은 키의 요청이 다시 실행되더라도 unique 키 충돌로 주문이 rollback 되고 커밋된 응답을 돌려받음.
+ */
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+  private static final String KEY_PREFIX = "idempotency:order:";
+  private static final int MAX_KEY_LENGTH = 100;
+  private static final int PURGE_CHUNK_SIZE = 1000;
+
+  private final RedisCacheRepository redisCacheRepository;
+  private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+  private final ObjectMapper objectMapper;
+  private final ObjectMapper canonicalMapper;
+  private final TransactionTemplate transactionTemplate;
+  private final ScheduledExecutorService renewalExecutor;
+  private final long ttlSeconds;
+  private final long inProgressTtlSeconds;
+  private final long waitTimeoutMillis;
+  private final long pollIntervalMillis;
+
+  public OrderIdempotencyService(RedisCacheRepository redisCacheRepository,
+      OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.idempotency.ttl-seconds:86400}") long ttlSeconds,
+      @Value("${order.idempotency.in-progress-ttl-seconds:60}") long inProgressTtlSeconds,
+      @Value("${order.idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis,
+      @Value("${order.idempotency.poll-interval-ms:50}") long pollIntervalMillis) {
+    this.redisCacheRepository = redisCacheRepository;
+    this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+    this.objectMapper = objectMapper;
+    // 요청 지문용 - 필드 선언 순서나 Map 순서가 바뀌어도 같은 요청이면 같은 문자열이 나오도록 키 순으로 직렬화
+    this.canonicalMapper = objectMapper.copy();
+    this.canonicalMapper.setConfig(this.canonicalMapper.getSerializationConfig()
+        .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+        .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.renewalExecutor = Executors.newSingleThreadScheduledExecutor();
+    this.ttlSeconds = ttlSeconds;
+    this.inProgressTtlSeconds = inProgressTtlSeconds;
+    this.waitTimeoutMillis = waitTimeoutMillis;
+    this.pollIntervalMillis = pollIntervalMillis;
+  }
+
+  /**
+   * 같은 키의 주문 생성은 한 번만 실행
+   *
+   * @param customerId     사용자 ID
+   * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+   * @param request        주문 생성 요청 DTO
+   * @param action         실제 주문 생성
+   * @return 주문 생성 결과 (저장된 응답을 돌려준 경우 replayed = true)
+   */
+  public Result createOnce(Long customerId, String idempotencyKey,
+      OrderCreateDto.Request request, Supplier<OrderCreateDto.Response> action) {
+    validateKey(idempotencyKey);
+    String key = redisKey(customerId, idempotencyKey);
+    String fingerprint = fingerprint(request);
+
+    long deadline = System.currentTimeMillis() + waitTimeoutMillis;
+    while (true) {
+      if (redisCacheRepository.setDataIfAbsent(key,
+          toJson(IdempotencyRecord.inProgress(fingerprint)), inProgressTtlSeconds)) {
+        return execute(customerId, idempotencyKey, fingerprint, action);
+      }
+
+      IdempotencyRecord record = readRecord(key);
+      if (record != null) {
+        if (!record.fingerprint().equals(fingerprint)) {
+          throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (record.response() != null) {
+          log.info("멱등 요청 재전송 - 저장된 응답 반환, cart ID: {}", request.getCartId());
+          return new Result(record.response(), true);
+        }
+      }
+      // 키가 사라졌으면(첫 요청 실패) 바로 다시 선점 시도, 처리 중이면 대기
+      if (System.currentTimeMillis() >= deadline) {
+        throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+      }
+      if (record != null) {
+        sleep();
+      }
+    }
+  }
+
+  /**
+   * 주문 생성 완료 기록 - 주문 트랜잭션 안에서 호출
+   * <p>
+   * 같은 키의 주문이 이미 커밋되었으면 unique 키 충돌로 예외가 발생해 주문 전체가 rollback 됨.
+   *
+   * @param customerId     사용자 ID
+   * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+   * @param request        주문 생성 요청 DTO
+   * @param response       주문 생성 응답 DTO
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordCompletion(Long customerId, String idempotencyKey,
+      OrderCreateDto.Request request, OrderCreateDto.Response response) {
+    orderIdempotencyKeyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+        .customerId(customerId)
+        .idempotencyKey(idempotencyKey)
+        .fingerprint(fingerprint(request))
+        .response(toJson(response))
+        .build());
+  }
+
+  // 보관 기간이 지난 완료 기록 정리
+  @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+  public void purgeExpired() {
+    LocalDateTime cutoff = LocalDateTime.now().minusSeconds(ttlSeconds);
+    int deleted;
+    do {
+      deleted = transactionTemplate.execute(
+          status -> orderIdempotencyKeyRepository.deleteCreatedBefore(cutoff, PURGE_CHUNK_SIZE));
+    } while (deleted == PURGE_CHUNK_SIZE);
+  }
+
+  @PreDestroy
+  public void stop() {
+    renewalExecutor.shutdownNow();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 커밋된 기록이 없을 때만 주문 생성 (처리 중 표시를 연장하면서 실행), 실패하면 처리 중 표시 삭제
+  private Result execute(Long customerId, String idempotencyKey, String fingerprint,
+      Supplier<OrderCreateDto.Response> action) {
+    String key = redisKey(customerId, idempotencyKey);
+    Optional<Result> committed = findCommitted(customerId, idempotencyKey, fingerprint);
+    if (committed.isPresent()) {
+      return committed.get();
+    }
+
+    OrderCreateDto.Response response;
+    ScheduledFuture<?> renewal = scheduleRenewal(key);
+    try {
+      response = action.get();
+    } catch (RuntimeException e) {
+      // 표시가 만료된 사이 같은 키의 주문이 먼저 커밋되어 unique 키 충돌이 난 경우 커밋된 응답 반환
+      committed = findCommitted(customerId, idempotencyKey, fingerprint);
+      if (committed.isPresent()) {
+        return committed.get();
+      }
+      redisCacheRepository.deleteData(key);
+      throw e;
+    } finally {
+      renewal.cancel(false);
+    }
+
+    // 주문과 함께 DB 에 기록되었으므로 Redis 저장 실패는 다음 요청이 DB 에서 복구
+    try {
+      redisCacheRepository.setData(key, toJson(IdempotencyRecord.completed(fingerprint, response)),
+          ttlSeconds);
+    } catch (RuntimeException e) {
+      log.warn("멱등성 응답 캐시 저장 실패, DB 기록으로 응답 - key: {}", key, e);
+    }
+    return new Result(response, false);
+  }
+
+  // DB 에 커밋된 완료 기록이 있으면 Redis 에 다시 올리고 저장된 응답 반환
+  private Optional<Result> findCommitted(Long customerId, String idempotencyKey,
+      String fingerprint) {
+    Optional<OrderIdempotencyKey> committed =
+        orderIdempotencyKeyRepository.findByCustomerIdAndIdempotencyKey(customerId, idempotencyKey);
+    if (committed.isEmpty()) {
+      return Optional.empty();
+    }
+
+    OrderCreateDto.Response response = readResponse(committed.get().getResponse());
+    redisCacheRepository.setData(redisKey(customerId, idempotencyKey),
+        toJson(IdempotencyRecord.completed(committed.get().getFingerprint(), response)), ttlSeconds);
+    if (!committed.get().getFingerprint().equals(fingerprint)) {
+      throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+    log.info("멱등 요청 재전송 - DB 에 기록된 응답 반환, key: {}", idempotencyKey);
+    return Optional.of(new Result(response, true));
+  }
+
+  // 처리 중 표시 만료 시간의 1/3 주기로 연장
+  private ScheduledFuture<?> scheduleRenewal(String key) {
+    long periodMillis = Math.max(TimeUnit.SECONDS.toMillis(inProgressTtlSeconds) / 3, 1);
+    return renewalExecutor.scheduleAtFixedRate(() -> {
+      try {
+        redisCacheRepository.expire(key, inProgressTtlSeconds);
+      } catch (RuntimeException e) {
+        log.warn("멱등성 처리 중 표시 연장 실패 - key: {}", key, e);
+      }
+    }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  // 다른 사용자의 같은 키와 섞이지 않도록 사용자 ID 를 포함
+  private static String redisKey(Long customerId, String idempotencyKey) {
+    return KEY_PREFIX + customerId + ":" + idempotencyKey;
+  }
+
+  private void validateKey(String idempotencyKey) {
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      throw new CustomException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+  }
+
+  private IdempotencyRecord readRecord(String key) {
+    String value = redisCacheRepository.getData(key);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(value, IdempotencyRecord.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("멱등성 기록을 읽을 수 없습니다. key: " + key, e);
+    }
+  }
+
+  private OrderCreateDto.Response readResponse(String value) {
+    try {
+      return objectMapper.readValue(value, OrderCreateDto.Response.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("멱등성 기록의 응답을 읽을 수 없습니다.", e);
+    }
+  }
+
+  private String toJson(Object record) {
+    try {
+      return objectMapper.writeValueAsString(record);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("멱등성 기록을 저장할 수 없습니다.", e);
+    }
+  }
+
+  // 같은 키로 다른 내용의 주문을 보내는 경우를 구분하기 위한 요청 지문 (요청 전체를 키 순으로 직렬화한 SHA-256)
+  private String fingerprint(OrderCreateDto.Request request) {
+    try {
+      byte[] canonical = canonicalMapper.writeValueAsBytes(request);
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(canonical));
+    } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+      throw new IllegalStateException("주문 요청 지문을 만들 수 없습니다.", e);
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(pollIntervalMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  public record Result(OrderCreateDto.Response response, boolean replayed) {
+
+  }
+
+  // Redis 에 저장되는 멱등성 기록 (response 가 null 이면 처리 중)
+  record IdempotencyRecord(String fingerprint, OrderCreateDto.Response response) {
+
+    static IdempotencyRecord inProgress(String fingerprint) {
+      return new IdempotencyRecord(fingerprint, null);
+    }
+
+    static IdempotencyRecord completed(String fingerprint, OrderCreateDto.Response response) {
+      return new IdempotencyRecord(fingerprint, response);
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.OrderTicketStatus;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.id.TsidGenerator;
+import com.ecommerce.common.repository.RedisCacheRepository;
+import com.ecommerce.common.retry.OptimisticLockRetryTemplate;
+import com.ecommerce.domain.order.dto.OrderCreateDto;
+import com.ecommerce.domain.order.dto.OrderTicketDto;
+import com.ecommerce.domain.product.ProductStockService;
+import com.ecommerce.domain.product.ProductStockService.LedgerMark;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 비동기 주문 접수.
+ * <p>
+ * 요청 스레드는 검증 후 고정 크기 대기열(ring buffer)에 넣고 접수 번호만 돌려주며, 대기열이 가득 차면 503 으로 거절해
+ * 요청 스레드가 DB 대기로 묶이지 않도록 함. 소수의 소비 스레드가 대기열에서 여러 주문을 꺼내 한 트랜잭션으로 처리하고,
+ * 주문마다 savepoint 를 두어 실패한 주문만 되돌림. 묶음 커밋 자체가 실패하면 주문별 트랜잭션으로 다시 처리.
+ * 묶음의 상품 락은 처음에 한 번에 잡아 락 순서를 지키고, 그 사이 장바구니가 바뀌어 순서를 지킬 수 없는 주문은
+ * 묶음 커밋 후 주문별 트랜잭션으로 처리.
+ * 처리 결과는 접수 번호로 Redis 에 보관.
+ */
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+  private static final String TICKET_KEY_PREFIX = "order:ticket:";
+  private static final long POLL_TIMEOUT_MILLIS = 500;
+
+  private final OrderService orderService;
+  private final ProductStockService productStockService;
+  private final RedisCacheRepository redisCacheRepository;
+  private final OptimisticLockRetryTemplate retryTemplate;
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<OrderIntakeTask> queue;
+  private final Timer batchTimer;
+  private final int consumerCount;
+  private final int batchSize;
+  private final long ticketTtlSeconds;
+  private final List<Thread> consumers = new ArrayList<>();
+
+  private volatile boolean running;
+
+  public OrderIntakeService(OrderService orderService,
+      ProductStockService productStockService,
+      RedisCacheRepository redisCacheRepository,
+      OptimisticLockRetryTemplate retryTemplate,
+      ObjectMapper objectMapper,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${order.intake.capacity:1024}") int capacity,
+      @Value("${order.intake.consumers:2}") int consumerCount,
+      @Value("${order.intake.batch-size:20}") int batchSize,
+      @Value("${order.intake.ticket-ttl-seconds:3600}") long ticketTtlSeconds) {
+    this.orderService = orderService;
+    this.productStockService = productStockService;
+    this.redisCacheRepository = redisCacheRepository;
+    this.retryTemplate = retryTemplate;
+    this.objectMapper = objectMapper;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // 주문 생성과 같은 격리 수준 (재고 분산 상품 차감 조건)
+    this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.consumerCount = consumerCount;
+    this.batchSize = batchSize;
+    this.ticketTtlSeconds = ticketTtlSeconds;
+
+    meterRegistry.gauge("order.intake.queue.size", queue, BlockingQueue::size);
+    this.batchTimer = Timer.builder("order.intake.batch")
+        .description("비동기 주문 묶음 처리 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 주문 요청 접수 (대기열이 가득 차면 예외)
+   *
+   * @param customerId 사용자 ID
+   * @param request    주문 생성 요청 DTO
+   * @return 접수 결과 DTO
+   */
+  public OrderTicketDto.Response submit(Long customerId, OrderCreateDto.Request request) {
+    orderService.validateOrderRequest(customerId, request);
+
+    OrderIntakeTask task = new OrderIntakeTask(TsidGenerator.nextId(), customerId, request);
+    OrderTicketDto.Response ticket = new OrderTicketDto.Response(task.ticketId(),
+        request.getCartId(), OrderTicketStatus.QUEUED, null, "주문 접수 완료");
+    // 소비 스레드가 먼저 결과를 기록할 수 있으므로 대기열에 넣기 전에 저장
+    saveTicket(customerId, ticket);
+
+    if (!running || !queue.offer(task)) {
+      redisCacheRepository.deleteData(ticketKey(task.ticketId()));
+      throw new CustomException(ErrorCode.ORDER_QUEUE_FULL);
+    }
+    return ticket;
+  }
+
+  /**
+   * 접수 번호로 처리 결과 조회
+   *
+   * @param customerId 사용자 ID
+   * @param ticketId   접수 번호
+   * @return 접수 결과 DTO
+   */
+  public OrderTicketDto.Response getTicket(Long customerId, Long ticketId) {
+    String value = redisCacheRepository.getData(ticketKey(ticketId));
+    if (value == null) {
+      throw new CustomException(ErrorCode.ORDER_TICKET_NOT_FOUND);
+    }
+
+    TicketRecord record = fromJson(value);
+    // 다른 사용자의 접수 번호는 존재 여부도 노출하지 않음
+    if (!record.customerId().equals(customerId)) {
+      throw new CustomException(ErrorCode.ORDER_TICKET_NOT_FOUND);
+    }
+    return record.ticket();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    running = true;
+    for (int i = 0; i < consumerCount; i++) {
+      Thread consumer = new Thread(this::consume, "order-intake-" + i);
+      consumer.setDaemon(true);
+      consumer.start();
+      consumers.add(consumer);
+    }
+  }
+
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    for (Thread consumer : consumers) {
+      consumer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    // 처리하지 못한 접수 건은 실패로 기록해 클라이언트가 다시 주문하도록 함
+    List<OrderIntakeTask> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    remaining.forEach(task -> recordOutcome(task,
+        Outcome.failed("서버 종료로 주문이 처리되지 않았습니다. 다시 주문해주세요.")));
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 대기열에서 최대 batchSize 건씩 꺼내 처리
+  private void consume() {
+    List<OrderIntakeTask> batch = new ArrayList<>(batchSize);
+    while (running) {
+      try {
+        OrderIntakeTask first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        batchTimer.record(() -> processBatch(batch));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        log.error("비동기 주문 처리 오류 - 건수: {}", batch.size(), e);
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  // 한 트랜잭션으로 처리하고, 커밋 실패 시 주문별 트랜잭션으로 재처리
+  private void processBatch(List<OrderIntakeTask> batch) {
+    Map<OrderIntakeTask, Outcome> outcomes = new LinkedHashMap<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        outcomes.clear();
+        // 묶음 전체의 상품 락을 스트라이프 오름차순으로 먼저 획득
+        orderService.lockCartProducts(batch.stream()
+            .map(task -> task.request().getCartId())
+            .toList());
+        batch.forEach(task -> outcomes.put(task, placeWithSavepoint(status, task)));
+      });
+    } catch (RuntimeException e) {
+      log.warn("비동기 주문 묶음 커밋 실패, 주문별로 재처리 - 건수: {}", batch.size(), e);
+      outcomes.clear();
+      batch.forEach(task -> outcomes.put(task, placeIndividually(task)));
+    }
+    // 묶음에서 락 순서를 지킬 수 없어 미룬 주문은 커밋 후 주문별 트랜잭션으로 처리
+    outcomes.replaceAll((task, outcome) -> outcome.isDeferred() ? placeIndividually(task) : outcome);
+    outcomes.forEach(this::recordOutcome);
+  }
+
+  // 업무 오류(CustomException)는 해당 주문만 savepoint 로 되돌리고, 그 외 오류는 묶음 전체를 롤백
+  private Outcome placeWithSavepoint(TransactionStatus status, OrderIntakeTask task) {
+    Object savepoint = status.createSavepoint();
+    LedgerMark ledgerMark = productStockService.markLedger();
+    try {
+      OrderCreateDto.Response response = orderService.placeOrder(task.customerId(),
+          task.request());
+      entityManager.flush();
+      status.releaseSavepoint(savepoint);
+      return Outcome.completed(response);
+    } catch (CustomException e) {
+      status.rollbackToSavepoint(savepoint);
+      // DB 와 달리 Redis 장부 예약은 savepoint 로 되돌아가지 않으므로 직접 되돌림
+      productStockService.rollbackLedgerTo(ledgerMark);
+      entityManager.clear(); // 되돌린 주문의 엔티티가 다음 flush 에 포함되지 않도록 비움
+      return e.getErrorCode() == ErrorCode.STOCK_LOCK_TIMEOUT
+          ? Outcome.deferred() : Outcome.failed(e.getMessage());
+    }
+  }
+
+  private Outcome placeIndividually(OrderIntakeTask task) {
+    try {
+      return Outcome.completed(retryTemplate.execute("order.intake",
+          () -> orderService.createOrder(task.customerId(), task.request())));
+    } catch (CustomException e) {
+      return Outcome.failed(e.getMessage());
+    } catch (RuntimeException e) {
+      log.error("비동기 주문 처리 실패 - ticket: {}", task.ticketId(), e);
+      return Outcome.failed("주문 처리 중 오류가 발생했습니다.");
+    }
+  }
+
+  private void recordOutcome(OrderIntakeTask task, Outcome outcome) {
+    OrderCreateDto.Response response = outcome.response();
+    saveTicket(task.customerId(), new OrderTicketDto.Response(task.ticketId(),
+        task.request().getCartId(),
+        response != null ? OrderTicketStatus.COMPLETED : OrderTicketStatus.FAILED,
+        response != null ? response.getStatus() : null,
+        response != null ? response.getMessage() : outcome.errorMessage()));
+  }
+
+  private void saveTicket(Long customerId, OrderTicketDto.Response ticket) {
+    redisCacheRepository.setData(ticketKey(ticket.getTicketId()),
+        toJson(new TicketRecord(customerId, ticket)), ticketTtlSeconds);
+  }
+
+  private String toJson(TicketRecord record) {
+    try {
+      return objectMapper.writeValueAsString(record);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주문 접수 결과를 저장할 수 없습니다.", e);
+    }
+  }
+
+  private TicketRecord fromJson(String value) {
+    try {
+      return objectMapper.readValue(value, TicketRecord.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주문 접수 결과를 읽을 수 없습니다.", e);
+    }
+  }
+
+  private static String ticketKey(Long ticketId) {
+    return TICKET_KEY_PREFIX + ticketId;
+  }
+
+  private record OrderIntakeTask(Long ticketId, Long customerId,
+                                 OrderCreateDto.Request request) {
+
+  }
+
+  private record Outcome(OrderCreateDto.Response response, String errorMessage) {
+
+    static Outcome completed(OrderCreateDto.Response response) {
+      return new Outcome(response, null);
+    }
+
+    static Outcome failed(String errorMessage) {
+      return new Outcome(null, errorMessage);
+    }
+
+    // 묶음 트랜잭션에서 처리하지 않고 주문별 트랜잭션으로 미룸
+    static Outcome deferred() {
+      return new Outcome(null, null);
+    }
+
+    boolean isDeferred() {
+      return response == null && errorMessage == null;
+    }
+  }
+
+  // Redis 에 저장되는 접수 기록 (소유자 확인용 사용자 ID 포함)
+  record TicketRecord(Long customerId, OrderTicketDto.Response ticket) {
+
+  }
+}
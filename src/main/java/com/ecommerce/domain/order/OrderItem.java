@@ -1,10 +1,9 @@
 package com.ecommerce.domain.order;
 
+import com.ecommerce.common.id.Tsid;
 import com.ecommerce.domain.product.Product;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +23,7 @@ import lombok.Setter;
 public class OrderItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -37,4 +36,8 @@ public class OrderItem {
 
   private Integer quantity;
   private BigDecimal price;
+
+  // 주문 시점 상품 정보 (상품 이름 변경/삭제와 관계없이 주문 내역을 상품 조회 없이 표시)
+  private String productName;
+  private Long sellerId;
 }
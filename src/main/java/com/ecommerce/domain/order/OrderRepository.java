@@ -1,15 +1,134 @@
 package com.ecommerce.domain.order;
 
 import com.ecommerce.common.enums.OrderStatus;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+  // 주문 항목까지 한 번에 조회 (OrderDto 변환 시 항목 지연 로딩 방지, 상품은 ID 만 사용)
+  @EntityGraph(attributePaths = "orderItems")
+  Optional<Order> findWithItemsById(Long orderId);
+
+  // 주문 목록 페이지의 주문과 항목을 한 번에 조회
+  @EntityGraph(attributePaths = "orderItems")
+  List<Order> findWithItemsByIdIn(Collection<Long> orderIds);
+
   Page<Order> findByCustomerId(Long customerId, Pageable pageable);
 
   Page<Order> findByStatus(OrderStatus status, Pageable pageable);
+
+  // 주문들의 상품별 수량 합계 (재고 일괄 복구용)
+  @Query("SELECT oi.product.id AS productId, SUM(oi.quantity) AS quantity "
+      + "FROM OrderItem oi WHERE oi.order.id IN :orderIds GROUP BY oi.product.id")
+  List<ProductQuantity> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
+
+  // 일괄 상태 변경 대상 주문 잠금 조회 (엔티티를 올리지 않고 필요한 컬럼만)
+  @Query(value = "SELECT id AS id, status AS status, member_id AS customerId, "
+      + "delivery_address AS deliveryAddress, total_price AS totalPrice, version AS version "
+      + "FROM orders WHERE id IN (:orderIds) FOR UPDATE", nativeQuery = true)
+  List<OrderStatusRow> findStatusRowsForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+  // 현재 상태가 허용된 상태인 주문만 일괄 변경 (영향받은 행 수 반환)
+  @Modifying
+  @Query("UPDATE Order o SET o.status = :target, o.version = o.version + 1, "
+      + "o.updatedAt = :now WHERE o.id IN :orderIds AND o.status IN :sources")
+  int updateStatuses(@Param("orderIds") Collection<Long> orderIds,
+      @Param("sources") Collection<OrderStatus> sources, @Param("target") OrderStatus target,
+      @Param("now") LocalDateTime now);
+
+  // 주문 내보내기 - 주문 항목 단위 행을 생성 시각, 주문 ID 순으로 스트리밍 ((created_at, id) 인덱스 범위,
+  // MySQL 에서 fetch size MIN_VALUE 는 행 단위 전송)
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(value = """
+      SELECT o.id AS orderId, o.member_id AS customerId, o.status AS status,
+             o.delivery_address AS deliveryAddress, o.total_price AS totalPrice,
+             o.created_at AS createdAt, oi.id AS orderItemId, oi.product_id AS productId,
+             oi.product_name AS productName, oi.seller_id AS sellerId,
+             oi.quantity AS quantity, oi.price AS price
+      FROM orders o JOIN order_item oi ON oi.order_id = o.id
+      WHERE o.created_at >= :from AND o.created_at < :to
+        AND (:status IS NULL OR o.status = :status)
+      ORDER BY o.created_at, o.id
+      """, nativeQuery = true)
+  Stream<OrderExportRow> streamForExport(@Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to, @Param("status") String status);
+
+  // 보관 테이블로 옮긴 주문 항목 삭제
+  @Modifying
+  @Query(value = "DELETE FROM order_item WHERE order_id IN (:orderIds)", nativeQuery = true)
+  int deleteItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+  // 보관 테이블로 옮긴 주문 삭제
+  @Modifying
+  @Query(value = "DELETE FROM orders WHERE id IN (:orderIds)", nativeQuery = true)
+  int deleteByIds(@Param("orderIds") Collection<Long> orderIds);
+
+  interface OrderStatusRow {
+
+    Long getId();
+
+    String getStatus();
+
+    Long getCustomerId();
+
+    String getDeliveryAddress();
+
+    BigDecimal getTotalPrice();
+
+    Long getVersion();
+  }
+
+  interface OrderExportRow {
+
+    Long getOrderId();
+
+    Long getCustomerId();
+
+    String getStatus();
+
+    String getDeliveryAddress();
+
+    BigDecimal getTotalPrice();
+
+    LocalDateTime getCreatedAt();
+
+    Long getOrderItemId();
+
+    Long getProductId();
+
+    String getProductName();
+
+    Long getSellerId();
+
+    Integer getQuantity();
+
+    BigDecimal getPrice();
+  }
+
+  interface ProductQuantity {
+
+    Long getProductId();
+
+    Long getQuantity();
+  }
 }
@@ -0,0 +1,66 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.entity.BaseTimeEntity;
+import com.ecommerce.common.enums.ReservationStatus;
+import com.ecommerce.common.id.Tsid;
+import com.ecommerce.domain.cart.Cart;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "order_reservation", uniqueConstraints = {
+    // 장바구니당 유효한 예약은 하나 (해제/전환/만료 시 NULL 로 비움)
+    @UniqueConstraint(name = "uk_order_reservation_active_cart", columnNames = "active_cart_id")
+}, indexes = {
+    @Index(name = "idx_order_reservation_cart_status", columnList = "cart_id, status"),
+    @Index(name = "idx_order_reservation_status_expires_at", columnList = "status, expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderReservation extends BaseTimeEntity {
+
+  @Id
+  @Tsid
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "cart_id", nullable = false)
+  private Cart cart;
+
+  @Enumerated(EnumType.STRING)
+  private ReservationStatus status;
+
+  private Long activeCartId; // 유효한 예약이면 장바구니 ID, 아니면 NULL
+
+  private LocalDateTime expiresAt;
+
+  @Builder.Default
+  @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
+  private List<OrderReservationItem> reservationItems = new ArrayList<>();
+
+  public void addReservationItems(List<OrderReservationItem> reservationItems) {
+    reservationItems.forEach(item -> item.setReservation(this));
+    this.reservationItems = new ArrayList<>(reservationItems);
+  }
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.domain.order;
+
+import java.time.LocalDateTime;
+
+// 예약 생성 트랜잭션이 커밋된 뒤 만료 스케줄러에 등록하기 위한 이벤트
+public record OrderReservationCreatedEvent(Long reservationId, LocalDateTime expiresAt) {
+
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ReservationStatus;
+import com.ecommerce.common.scheduler.HashedTimingWheel;
+import com.ecommerce.domain.order.OrderReservationRepository.ReservationExpiry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 예약 만료 스케줄러.
+ * <p>
+ * 예약마다 스케줄 작업을 만들거나 테이블을 주기적으로 훑지 않고, timing wheel 에 만료 시각만 등록해 두었다가
+ * 해당 tick 에 도달한 예약만 해제. 다른 인스턴스에서 생성된 예약이나 재시작 중 놓친 예약은 낮은 빈도의 인덱스 조회로 보완.
+ */
+@Component
+@Slf4j
+public class OrderReservationExpiryScheduler {
+
+  private final OrderReservationService orderReservationService;
+  private final OrderReservationRepository orderReservationRepository;
+  private final ExecutorService expiryExecutor;
+  private final HashedTimingWheel<Long> timingWheel;
+
+  public OrderReservationExpiryScheduler(OrderReservationService orderReservationService,
+      OrderReservationRepository orderReservationRepository,
+      @Value("${order.reservation.tick-ms:1000}") long tickMillis) {
+    this.orderReservationService = orderReservationService;
+    this.orderReservationRepository = orderReservationRepository;
+    this.expiryExecutor = Executors.newFixedThreadPool(2);
+    this.timingWheel = new HashedTimingWheel<>("reservation-expiry-wheel", tickMillis, 512,
+        this::expire, expiryExecutor);
+  }
+
+  // 기동 시 진행 중인 예약을 모두 등록
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    timingWheel.start();
+    orderReservationRepository.findAllByStatus(ReservationStatus.ACTIVE)
+        .forEach(this::schedule);
+  }
+
+  // 예약 생성 트랜잭션 커밋 후 등록
+  @TransactionalEventListener
+  public void onReservationCreated(OrderReservationCreatedEvent event) {
+    timingWheel.schedule(event.reservationId(), toEpochMillis(event.expiresAt()));
+  }
+
+  // 다른 인스턴스에서 만든 예약 등 누락분 보완 (status, expires_at 인덱스 범위 조회)
+  @Scheduled(fixedDelayString = "${order.reservation.sweep-interval-ms:300000}")
+  public void sweepMissed() {
+    orderReservationRepository.findAllByStatusAndExpiresAtBefore(ReservationStatus.ACTIVE,
+        LocalDateTime.now()).forEach(expiry -> expire(expiry.getId()));
+  }
+
+  @PreDestroy
+  public void stop() {
+    timingWheel.stop();
+    expiryExecutor.shutdown();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private void schedule(ReservationExpiry expiry) {
+    timingWheel.schedule(expiry.getId(), toEpochMillis(expiry.getExpiresAt()));
+  }
+
+  private void expire(Long reservationId) {
+    try {
+      orderReservationService.expire(reservationId);
+    } catch (RuntimeException e) {
+      log.error("재고 예약 만료 처리 실패 - 예약 ID: {}, cause: {}", reservationId, e.getMessage());
+    }
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.id.Tsid;
+import com.ecommerce.domain.product.Product;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderReservationItem {
+
+  @Id
+  @Tsid
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "reservation_id", nullable = false)
+  private OrderReservation reservation;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "product_id", nullable = false)
+  private Product product;
+
+  private Integer quantity;
+  private BigDecimal price; // 예약 시점 가격
+  private String productName; // 예약 시점 상품 이름
+  private Long sellerId;
+}
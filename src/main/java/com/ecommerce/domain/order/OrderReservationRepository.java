@@ -0,0 +1,62 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ReservationStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderReservationRepository extends JpaRepository<OrderReservation, Long> {
+
+  // 장바구니의 유효한 예약 (active_cart_id 고유 인덱스로 최대 한 건)
+  Optional<OrderReservation> findByActiveCartId(Long cartId);
+
+  List<ReservationExpiry> findAllByStatus(ReservationStatus status);
+
+  List<ReservationExpiry> findAllByStatusAndExpiresAtBefore(ReservationStatus status,
+      LocalDateTime expiresAt);
+
+  // 여러 장바구니의 유효한 예약에 담긴 상품 ID
+  @Query("SELECT DISTINCT ri.product.id FROM OrderReservationItem ri "
+      + "WHERE ri.reservation.activeCartId IN :cartIds")
+  List<Long> findActiveProductIdsByCartIds(@Param("cartIds") Collection<Long> cartIds);
+
+  // 만료 전인 예약만 주문으로 전환 (영향받은 행 수가 0 이면 이미 만료/해제됨)
+  @Modifying
+  @Query("UPDATE OrderReservation r "
+      + "SET r.status = com.ecommerce.common.enums.ReservationStatus.CONSUMED, "
+      + "r.activeCartId = NULL "
+      + "WHERE r.id = :id AND r.status = com.ecommerce.common.enums.ReservationStatus.ACTIVE "
+      + "AND r.expiresAt > :now")
+  int markConsumed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  // 만료 시각이 지난 예약만 만료 처리
+  @Modifying
+  @Query("UPDATE OrderReservation r "
+      + "SET r.status = com.ecommerce.common.enums.ReservationStatus.EXPIRED, "
+      + "r.activeCartId = NULL "
+      + "WHERE r.id = :id AND r.status = com.ecommerce.common.enums.ReservationStatus.ACTIVE "
+      + "AND r.expiresAt <= :now")
+  int markExpired(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  // 새 예약으로 대체된 예약 해제
+  @Modifying
+  @Query("UPDATE OrderReservation r "
+      + "SET r.status = com.ecommerce.common.enums.ReservationStatus.RELEASED, "
+      + "r.activeCartId = NULL "
+      + "WHERE r.id = :id AND r.status = com.ecommerce.common.enums.ReservationStatus.ACTIVE")
+  int markReleased(@Param("id") Long id);
+
+  interface ReservationExpiry {
+
+    Long getId();
+
+    LocalDateTime getExpiresAt();
+  }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.enums.ReservationStatus;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.lock.StripedLockManager;
+import com.ecommerce.domain.cart.Cart;
+import com.ecommerce.domain.cart.CartItem;
+import com.ecommerce.domain.cart.CartRepository;
+import com.ecommerce.domain.cart.CartStore;
+import com.ecommerce.domain.order.dto.OrderReservationDto;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductStockService;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReservationService {
+
+  private final OrderReservationRepository orderReservationRepository;
+  private final CartRepository cartRepository;
+  private final CartStore cartStore;
+  private final ProductStockService productStockService;
+  private final StripedLockManager stripedLockManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Value("${order.reservation.hold-minutes:10}")
+  private int defaultHoldMinutes;
+
+  /**
+   * 결제 시작 시 장바구니 상품 재고 예약 (기존 예약이 있으면 해제 후 새로 예약)
+   *
+   * @param customerId 사용자 ID
+   * @param request    예약 요청 DTO
+   * @return 예약 응답 DTO
+   */
+  @Transactional(isolation = Isolation.READ_COMMITTED)
+  public OrderReservationDto.Response reserve(Long customerId,
+      OrderReservationDto.Request request) {
+    // 소유권을 먼저 확인한 뒤 Redis 장바구니의 반영되지 않은 변경을 DB 에 반영
+    validateCartOwner(customerId, request.getCartId());
+    cartStore.flush(request.getCartId());
+    Cart cart = findCartWithItems(request.getCartId());
+    if (cart.getCartItems().isEmpty()) {
+      throw new CustomException(ErrorCode.CART_EMPTY);
+    }
+
+    // 같은 장바구니의 예약끼리 겹치지 않도록 장바구니 행을 잠근 뒤 기존 예약 확인
+    cartRepository.findByIdForUpdate(cart.getId());
+    orderReservationRepository.findByActiveCartId(cart.getId()).ifPresent(this::release);
+
+    List<CartItem> cartItems = cart.getCartItems();
+    stripedLockManager.lockUntilTransactionEnd(cartItems.stream()
+        .map(cartItem -> cartItem.getProduct().getId())
+        .toList());
+    cartItems.forEach(cartItem -> validateProductStatus(cartItem.getProduct()));
+    productStockService.decreaseStock(toQuantities(cartItems));
+
+    int holdMinutes = request.getHoldMinutes() != null
+        ? request.getHoldMinutes() : defaultHoldMinutes;
+    OrderReservation reservation = OrderReservation.builder()
+        .cart(cart)
+        .status(ReservationStatus.ACTIVE)
+        .activeCartId(cart.getId())
+        .expiresAt(LocalDateTime.now().plusMinutes(holdMinutes))
+        .build();
+    reservation.addReservationItems(cartItems.stream()
+        .map(this::createReservationItem)
+        .toList());
+    orderReservationRepository.save(reservation);
+
+    eventPublisher.publishEvent(
+        new OrderReservationCreatedEvent(reservation.getId(), reservation.getExpiresAt()));
+
+    return new OrderReservationDto.Response(reservation.getId(), cart.getId(),
+        reservation.getExpiresAt(), "재고 예약 완료");
+  }
+
+  /**
+   * 장바구니의 유효한 예약 조회
+   *
+   * @param cartId 장바구니 ID
+   * @return 유효한 예약, 없으면 빈 값
+   */
+  @Transactional(readOnly = true)
+  public Optional<OrderReservation> findActive(Long cartId) {
+    return orderReservationRepository.findByActiveCartId(cartId);
+  }
+
+  /**
+   * 여러 장바구니의 유효한 예약에 담긴 상품 ID 조회
+   *
+   * @param cartIds 장바구니 ID 목록
+   * @return 예약 상품 ID 목록
+   */
+  @Transactional(readOnly = true)
+  public List<Long> findActiveProductIds(Collection<Long> cartIds) {
+    return orderReservationRepository.findActiveProductIdsByCartIds(cartIds);
+  }
+
+  /**
+   * 예약을 주문 항목으로 전환 (재고는 예약 시 이미 차감됨)
+   * <p>
+   * 예약 이후 장바구니의 상품이나 수량이 바뀌었으면 예약대로 주문할 경우 바뀐 항목이 빠지거나 예전 수량으로 주문되므로,
+   * 예약을 해제하고 빈 값을 반환해 현재 장바구니 기준으로 재고를 다시 차감하게 함. 호출하는 쪽에서 장바구니 상품과
+   * 예약 상품의 락을 모두 잡고 있어야 함.
+   *
+   * @param reservation 장바구니의 유효한 예약
+   * @param cart        장바구니
+   * @return 예약대로 주문할 수 있으면 주문 항목 목록, 만료되었거나 장바구니와 다르면 빈 값
+   */
+  @Transactional
+  public Optional<List<OrderItem>> consume(OrderReservation reservation, Cart cart) {
+    if (!toReservedQuantities(reservation).equals(toQuantities(cart.getCartItems()))) {
+      release(reservation);
+      log.info("장바구니 변경으로 재고 예약 해제 - 예약 ID: {}", reservation.getId());
+      return Optional.empty();
+    }
+    if (orderReservationRepository.markConsumed(reservation.getId(), LocalDateTime.now()) == 0) {
+      return Optional.empty();
+    }
+
+    return Optional.of(reservation.getReservationItems().stream()
+        .map(item -> OrderItem.builder()
+            .product(item.getProduct())
+            .quantity(item.getQuantity())
+            .price(item.getPrice())
+            .productName(item.getProductName())
+            .sellerId(item.getSellerId())
+            .build())
+        .toList());
+  }
+
+  /**
+   * 만료 시각이 지난 예약 해제 및 재고 복구
+   *
+   * @param reservationId 예약 ID
+   */
+  @Transactional
+  public void expire(Long reservationId) {
+    if (orderReservationRepository.markExpired(reservationId, LocalDateTime.now()) == 0) {
+      return; // 이미 주문으로 전환되었거나 해제됨
+    }
+
+    orderReservationRepository.findById(reservationId).ifPresent(reservation -> {
+      productStockService.restoreStock(toReservedQuantities(reservation));
+      log.info("재고 예약 만료 - 예약 ID: {}", reservationId);
+    });
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 기존 예약 해제 및 재고 복구
+  private void release(OrderReservation reservation) {
+    if (orderReservationRepository.markReleased(reservation.getId()) == 1) {
+      productStockService.restoreStock(toReservedQuantities(reservation));
+    }
+  }
+
+  // 장바구니 소유권 확인 (소유자 ID 만 조회)
+  private void validateCartOwner(Long customerId, Long cartId) {
+    Long ownerId = cartRepository.findCustomerIdById(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+
+    if (!ownerId.equals(customerId)) {
+      throw new CustomException(ErrorCode.INVALID_AUTH_TOKEN);
+    }
+  }
+
+  // 장바구니와 항목, 상품 조회
+  private Cart findCartWithItems(Long cartId) {
+    return cartRepository.findWithItemsAndProductsById(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+  }
+
+  // 상품 상태 확인 (상품 상태가 판매중이 아닌 경우 예외)
+  private void validateProductStatus(Product product) {
+    if (!product.getStatus().equals(ProductStatus.AVAILABLE)) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_AVAILABLE);
+    }
+  }
+
+  // 예약 항목 생성
+  private OrderReservationItem createReservationItem(CartItem cartItem) {
+    return OrderReservationItem.builder()
+        .product(cartItem.getProduct())
+        .quantity(cartItem.getQuantity())
+        .price(cartItem.getProduct().getPrice())
+        .productName(cartItem.getProduct().getProductName())
+        .sellerId(cartItem.getProduct().getSeller().getId())
+        .build();
+  }
+
+  private static Map<Long, Integer> toQuantities(List<CartItem> cartItems) {
+    return cartItems.stream()
+        .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(),
+            CartItem::getQuantity, Integer::sum));
+  }
+
+  private static Map<Long, Integer> toReservedQuantities(OrderReservation reservation) {
+    return reservation.getReservationItems().stream()
+        .collect(Collectors.toMap(item -> item.getProduct().getId(),
+            OrderReservationItem::getQuantity, Integer::sum));
+  }
+}
@@ -1,36 +1,75 @@
 package com.ecommerce.domain.order;
 
 import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.OrderEventType;
 import com.ecommerce.common.enums.OrderStatus;
 import com.ecommerce.common.enums.ProductStatus;
 import com.ecommerce.common.enums.Role;
 import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.lock.StripedLockManager;
+import com.ecommerce.common.pagination.Cursor;
+import com.ecommerce.common.pagination.CursorSlice;
 import com.ecommerce.domain.cart.Cart;
+import com.ecommerce.domain.cart.CartItem;
 import com.ecommerce.domain.cart.CartRepository;
+import com.ecommerce.domain.cart.CartStore;
 import com.ecommerce.domain.member.MemberRepository;
+import com.ecommerce.domain.order.OrderRepository.OrderStatusRow;
+import com.ecommerce.domain.order.archive.ArchivedOrderRepository;
 import com.ecommerce.domain.order.dto.OrderCreateDto;
 import com.ecommerce.domain.order.dto.OrderDto;
+import com.ecommerce.domain.order.dto.OrderStatusBulkDto;
+import com.ecommerce.domain.order.dto.OrderSummaryDto;
 import com.ecommerce.domain.order.dto.OrderUpdateDto;
+import com.ecommerce.domain.order.outbox.OrderEventPayload;
+import com.ecommerce.domain.order.outbox.OrderOutboxService;
 import com.ecommerce.domain.product.Product;
-import com.ecommerce.domain.product.ProductRepository;
+import com.ecommerce.domain.product.ProductStockService;
+import com.ecommerce.domain.sales.SalesRollupService;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class OrderService {
 
+  private static final Sort LATEST_FIRST =
+      Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("orderId"));
+
   private final OrderRepository orderRepository;
   private final CartRepository cartRepository;
+  private final CartStore cartStore;
   private final MemberRepository memberRepository;
-  private final ProductRepository productRepository;
+  private final ProductStockService productStockService;
+  private final StripedLockManager stripedLockManager;
+  private final OrderReservationService orderReservationService;
+  private final OrderOutboxService orderOutboxService;
+  private final OrderSummaryRepository orderSummaryRepository;
+  private final OrderSummaryService orderSummaryService;
+  private final ArchivedOrderRepository archivedOrderRepository;
+  private final SalesRollupService salesRollupService;
+  private final OrderIdempotencyService orderIdempotencyService;
 
   /**
    * 주문 생성
@@ -39,71 +78,199 @@ public class OrderService {
    * @param request    주문 생성 요청 DTO
    * @return 주문 생성 응답 DTO
    */
-  @Transactional
+  @Transactional(isolation = Isolation.READ_COMMITTED)
   public OrderCreateDto.Response createOrder(Long customerId, OrderCreateDto.Request request) {
-    Cart cart = validateCartOwnership(customerId, request.getCartId());
-    validateCartNotEmpty(cart);
+    return placeOrder(customerId, request);
+  }
 
-    List<OrderItem> orderItems = createOrderItemsFromCart(cart);
+  /**
+   * 주문 생성 - Idempotency-Key 완료 기록을 주문과 같은 트랜잭션에서 저장
+   * <p>
+   * 같은 키의 주문이 이미 커밋되었으면 unique 키 충돌로 이 주문은 rollback 됨.
+   *
+   * @param customerId     사용자 ID
+   * @param request        주문 생성 요청 DTO
+   * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key
+   * @return 주문 생성 응답 DTO
+   */
+  @Transactional(isolation = Isolation.READ_COMMITTED)
+  public OrderCreateDto.Response createOrder(Long customerId, OrderCreateDto.Request request,
+      String idempotencyKey) {
+    OrderCreateDto.Response response = placeOrder(customerId, request);
+    orderIdempotencyService.recordCompletion(customerId, idempotencyKey, request, response);
+    return response;
+  }
+
+  /**
+   * 주문 생성 - 트랜잭션 경계 없이 호출하는 쪽 트랜잭션에 참여
+   * <p>
+   * 비동기 주문 접수에서 여러 주문을 한 트랜잭션에 묶고 주문별 savepoint 로 감싸서 사용. 예외가 트랜잭션 프록시를
+   * 거치지 않으므로 한 주문의 실패가 묶음 전체를 rollback-only 로 만들지 않음. 재고 분산 상품 차감을 위해 호출하는 쪽
+   * 트랜잭션은 READ COMMITTED 여야 함.
+   *
+   * @param customerId 사용자 ID
+   * @param request    주문 생성 요청 DTO
+   * @return 주문 생성 응답 DTO
+   */
+  public OrderCreateDto.Response placeOrder(Long customerId, OrderCreateDto.Request request) {
+    // 소유권을 먼저 확인한 뒤 Redis 장바구니의 반영되지 않은 변경을 DB 에 반영해 주문할 항목을 확정
+    validateCartOwner(customerId, request.getCartId());
+    cartStore.flush(request.getCartId());
+    Cart cart = findCartWithItems(request.getCartId());
+    validateCartNotEmpty(cart);
+    // 같은 장바구니의 예약/주문과 겹치지 않도록 장바구니 행을 잠근 뒤 예약 확인
+    cartRepository.findByIdForUpdate(cart.getId());
+    // 예약이 장바구니와 달라 해제하는 경우 예약 상품 재고도 복구하므로 함께 잠금
+    Optional<OrderReservation> reservation = orderReservationService.findActive(cart.getId());
+    stripedLockManager.lockUntilTransactionEnd(productIdsOf(cart, reservation));
+
+    // 결제 시작 시 확보한 재고 예약이 장바구니와 같으면 재고 재확인 없이 사용
+    List<OrderItem> orderItems = reservation
+        .flatMap(active -> orderReservationService.consume(active, cart))
+        .orElseGet(() -> createOrderItemsFromCart(cart));
     Order order = buildOrder(request, cart, orderItems);
     order.addOrderItems(orderItems);
 
     orderRepository.save(order);
+    orderSummaryService.create(order);
+    salesRollupService.recordTransition(List.of(order.getId()), null, order.getStatus());
+    orderOutboxService.record(order, OrderEventType.ORDER_CREATED, null);
     clearCart(cart);
 
     return new OrderCreateDto.Response(request.getCartId(), order.getStatus(), "주문 완료");
   }
 
   /**
-   * 주문 정보 조회
+   * 여러 주문의 상품 락을 스트라이프 오름차순으로 한 번에 획득 - 호출하는 쪽 트랜잭션이 끝날 때 해제
+   * <p>
+   * 비동기 주문 묶음처럼 한 트랜잭션에서 여러 주문을 처리할 때 주문마다 락을 잡으면 앞 주문의 높은 스트라이프를 쥔 채
+   * 낮은 스트라이프를 기다리게 되므로, 묶음의 장바구니 행과 장바구니 상품, 예약 상품을 먼저 모두 잠금. 이후 주문별 락은 이미 잡은
+   * 스트라이프를 다시 획득하므로 기다리지 않음.
+   *
+   * @param cartIds 장바구니 ID 목록
+   */
+  public void lockCartProducts(Collection<Long> cartIds) {
+    // 주문별 처리와 같이 장바구니 -> 상품 순으로 잠그도록 묶음의 장바구니 행을 ID 순으로 먼저 잠금
+    cartRepository.lockIds(cartIds);
+    // Redis 장바구니의 반영되지 않은 변경을 먼저 DB 에 반영 (장바구니 ID 순)
+    cartIds.stream().sorted().distinct().forEach(cartStore::flush);
+    Set<Long> productIds = new HashSet<>(cartRepository.findProductIdsByCartIds(cartIds));
+    productIds.addAll(orderReservationService.findActiveProductIds(cartIds));
+    stripedLockManager.lockUntilTransactionEnd(productIds);
+  }
+
+  /**
+   * 주문 요청 사전 검증 (장바구니 소유권, 비어있는지 여부)
+   *
+   * @param customerId 사용자 ID
+   * @param request    주문 생성 요청 DTO
+   */
+  @Transactional(readOnly = true)
+  public void validateOrderRequest(Long customerId, OrderCreateDto.Request request) {
+    Cart cart = validateCartOwnership(customerId, request.getCartId());
+    if (cartStore.isEmpty(cart)) {
+      throw new CustomException(ErrorCode.CART_EMPTY);
+    }
+  }
+
+  /**
+   * 주문 정보 조회 (운영 테이블에 없으면 보관 테이블에서 조회)
    *
    * @param orderId 주문 ID
    * @return 주문 DTO
    */
   public OrderDto getOrderById(Long orderId) {
-    return OrderDto.fromEntity(findOrderById(orderId));
+    return orderRepository.findWithItemsById(orderId)
+        .map(OrderDto::fromEntity)
+        .or(() -> archivedOrderRepository.findWithItemsById(orderId).map(OrderDto::fromArchive))
+        .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
   }
 
   /**
-   * 주문 정보 조회
+   * 주문 정보 조회 (주문 요약 테이블로 페이지를 정하고 주문과 항목은 한 번에 조회)
    *
    * @param customerId 사용자 ID
    * @return 주문 DTO 리스트
    */
   public Page<OrderDto> getOrdersByCustomerId(Long customerId, Pageable pageable) {
-    validateCustomerExists(customerId);
-    Page<Order> orders = orderRepository.findByCustomerId(customerId, pageable);
-
-    if (orders.isEmpty()) {
-      throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
-    }
-
-    return orders.map(OrderDto::fromEntity);
+    return toOrderDtos(findSummariesByCustomerId(customerId, pageable));
   }
 
   /**
-   * 주문 정보 조회
+   * 주문 정보 조회 (주문 요약 테이블로 페이지를 정하고 주문과 항목은 한 번에 조회)
    *
    * @param status 주문 상태
    * @return 주문 DTO 리스트
    */
   public Page<OrderDto> getOrderByStatus(OrderStatus status, Pageable pageable) {
-    Page<Order> orders = orderRepository.findByStatus(status, pageable);
-    return orders.map(OrderDto::fromEntity);
+    return toOrderDtos(orderSummaryRepository.findByStatus(status, toIndexedSort(pageable)));
   }
 
   /**
-   * 전체 주문 리스트 조회
+   * 전체 주문 리스트 조회 (주문 요약 테이블로 페이지를 정하고 주문과 항목은 한 번에 조회)
    *
    * @param pageable 페이징 정보
    * @return 전체 주문 목록 - 최신순
    */
   public Page<OrderDto> getAllOrders(Pageable pageable) {
-    Pageable sortedByCreatedAtDesc = PageRequest.of(
-        pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Order.desc("createdAt")));
-    Page<Order> orders = orderRepository.findAll(sortedByCreatedAtDesc);
+    return toOrderDtos(orderSummaryRepository.findAll(latestFirst(pageable)));
+  }
 
-    return orders.map(OrderDto::fromEntity);
+  /**
+   * 주문 요약 조회 (주문 항목 제외, 요약 테이블 인덱스 조회만 실행)
+   *
+   * @param customerId 사용자 ID
+   * @return 주문 요약 DTO 리스트
+   */
+  public Page<OrderSummaryDto> getOrderSummariesByCustomerId(Long customerId,
+      Pageable pageable) {
+    return findSummariesByCustomerId(customerId, pageable).map(OrderSummaryDto::fromEntity);
+  }
+
+  /**
+   * 주문 요약 조회 (주문 항목 제외, 요약 테이블 인덱스 조회만 실행)
+   *
+   * @param status 주문 상태
+   * @return 주문 요약 DTO 리스트
+   */
+  public Page<OrderSummaryDto> getOrderSummariesByStatus(OrderStatus status,
+      Pageable pageable) {
+    return orderSummaryRepository.findByStatus(status, toIndexedSort(pageable))
+        .map(OrderSummaryDto::fromEntity);
+  }
+
+  /**
+   * 전체 주문 요약 조회 (주문 항목 제외, 요약 테이블 인덱스 조회만 실행)
+   *
+   * @param pageable 페이징 정보
+   * @return 전체 주문 요약 목록 - 최신순
+   */
+  public Page<OrderSummaryDto> getAllOrderSummaries(Pageable pageable) {
+    return orderSummaryRepository.findAll(latestFirst(pageable))
+        .map(OrderSummaryDto::fromEntity);
+  }
+
+  /**
+   * 전체 주문 리스트 커서 조회 - 최신순 (페이지 깊이와 관계없이 같은 비용)
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param size   조회 개수
+   * @return 주문 요약 목록
+   */
+  public CursorSlice<OrderSummaryDto> scrollAllOrders(String cursor, int size) {
+    int limit = CursorSlice.normalizeSize(size);
+    List<OrderSummary> rows;
+    if (cursor == null) {
+      rows = orderSummaryRepository.findLatest(Limit.of(limit + 1));
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      rows = orderSummaryRepository.findLatestBefore(position.createdAt(), position.id(),
+          Limit.of(limit + 1));
+    }
+
+    return CursorSlice.of(rows, limit,
+        summary -> new Cursor(summary.getCreatedAt(), summary.getOrderId()),
+        page -> page.stream().map(OrderSummaryDto::fromEntity).toList());
   }
 
   /**
@@ -118,9 +285,15 @@ public class OrderService {
 
     validateCustomerAuthorization(customerId, order);
     validateOrderCancellable(order);
+    lockOrderProducts(order);
 
+    OrderStatus previousStatus = order.getStatus();
     order.setStatus(OrderStatus.CANCELED);
     restoreStock(order);
+    orderSummaryService.updateStatus(order.getId(), OrderStatus.CANCELED);
+    salesRollupService.recordTransition(List.of(order.getId()), previousStatus,
+        OrderStatus.CANCELED);
+    orderOutboxService.record(order, OrderEventType.ORDER_CANCELED, previousStatus);
 
     return OrderDto.fromEntity(order);
   }
@@ -135,18 +308,75 @@ public class OrderService {
   @Transactional
   public OrderDto updateOrderStatus(Long orderId, OrderStatus newStatus) {
     Order order = findOrderById(orderId);
+    validateStatusTransition(order.getStatus(), newStatus);
 
-    switch (order.getStatus()) {
-      case PENDING -> validateStatusTransition(order.getStatus(), newStatus, OrderStatus.SHIPPED,
-          OrderStatus.CANCELED);
-      case SHIPPED -> validateStatusTransition(order.getStatus(), newStatus, OrderStatus.DELIVERED);
-      default -> throw new CustomException(ErrorCode.INVALID_ORDER_STATUS);
-    }
-
+    lockOrderProducts(order);
+    OrderStatus previousStatus = order.getStatus();
     setOrderStatus(order, newStatus);
+    orderSummaryService.updateStatus(order.getId(), newStatus);
+    salesRollupService.recordTransition(List.of(order.getId()), previousStatus, newStatus);
+    orderOutboxService.record(order, newStatus == OrderStatus.CANCELED
+        ? OrderEventType.ORDER_CANCELED : OrderEventType.ORDER_STATUS_CHANGED, previousStatus);
     return OrderDto.fromEntity(order);
   }
 
+  /**
+   * 주문 상태 일괄 변경
+   * <p>
+   * 대상 주문을 한 번에 잠가서 조회하고, 전이 가능한 주문만 UPDATE 한 번으로 변경. 취소인 경우 재고도 일괄 복구.
+   * 주문 수와 관계없이 실행되는 쿼리 수가 일정함. 취소인 경우 단건 취소와 같은 순서(상품 락 -> 주문 행 락)로 잠그기
+   * 위해 주문 항목의 상품을 잠그지 않고 먼저 읽어 상품 락을 잡은 뒤 주문 행을 잠금.
+   *
+   * @param request 일괄 변경 요청 DTO
+   * @return 주문별 처리 결과
+   */
+  @Transactional
+  public OrderStatusBulkDto.Response updateOrderStatuses(OrderStatusBulkDto.Request request) {
+    OrderStatus target = request.getStatus();
+    List<OrderStatus> sources = OrderStatus.sourcesOf(target);
+    Set<Long> orderIds = new LinkedHashSet<>(request.getOrderIds());
+    if (target == OrderStatus.CANCELED) {
+      // 주문 항목은 생성 후 바뀌지 않으므로 잠그지 않고 읽어도 됨
+      stripedLockManager.lockUntilTransactionEnd(sumQuantitiesByProduct(orderIds).keySet());
+    }
+
+    Map<Long, OrderStatusRow> rows = orderRepository.findStatusRowsForUpdate(orderIds).stream()
+        .collect(Collectors.toMap(OrderStatusRow::getId, Function.identity()));
+    List<OrderStatusRow> eligible = rows.values().stream()
+        .filter(row -> sources.contains(OrderStatus.valueOf(row.getStatus())))
+        .toList();
+    List<Long> eligibleIds = eligible.stream().map(OrderStatusRow::getId).toList();
+
+    if (!eligibleIds.isEmpty()) {
+      if (target == OrderStatus.CANCELED) {
+        restoreStock(eligibleIds);
+      }
+      orderRepository.updateStatuses(eligibleIds, sources, target, LocalDateTime.now());
+      orderSummaryService.updateStatus(eligibleIds, target);
+      eligible.stream()
+          .collect(Collectors.groupingBy(row -> OrderStatus.valueOf(row.getStatus()),
+              Collectors.mapping(OrderStatusRow::getId, Collectors.toList())))
+          .forEach((previous, ids) -> salesRollupService.recordTransition(ids, previous, target));
+      // 일괄 UPDATE 가 버전을 1 올리므로 변경 후 버전은 잠가서 읽은 버전 + 1
+      Map<Long, Long> orderVersions = eligible.stream()
+          .collect(Collectors.toMap(OrderStatusRow::getId, row -> row.getVersion() + 1));
+      orderOutboxService.recordAll(eligible.stream()
+          .map(row -> new OrderEventPayload(row.getId(), row.getCustomerId(), target,
+              OrderStatus.valueOf(row.getStatus()), row.getDeliveryAddress(),
+              row.getTotalPrice()))
+          .toList(), orderVersions, target == OrderStatus.CANCELED
+          ? OrderEventType.ORDER_CANCELED : OrderEventType.ORDER_STATUS_CHANGED);
+    }
+
+    Set<Long> updatedIds = new HashSet<>(eligibleIds);
+    List<OrderStatusBulkDto.Result> results = orderIds.stream()
+        .map(orderId -> toBulkResult(orderId, rows.get(orderId), updatedIds, target))
+        .toList();
+    log.info("주문 상태 일괄 변경 - 상태: {}, 요청: {}, 변경: {}", target, orderIds.size(),
+        eligibleIds.size());
+    return new OrderStatusBulkDto.Response(target, orderIds.size(), eligibleIds.size(), results);
+  }
+
   /**
    * 배송지 수정
    *
@@ -162,12 +392,61 @@ public class OrderService {
 
     validateOrderModifiable(order);
     order.setDeliveryAddress(request.getDeliveryAddress());
+    orderOutboxService.record(order, OrderEventType.DELIVERY_ADDRESS_CHANGED, null);
 
     return OrderDto.fromEntity(order);
   }
 
   // ================================= Helper methods ================================= //
 
+  // 사용자 주문 요약 페이지 (주문이 없으면 예외)
+  private Page<OrderSummary> findSummariesByCustomerId(Long customerId, Pageable pageable) {
+    validateCustomerExists(customerId);
+    Page<OrderSummary> summaries = orderSummaryRepository.findByCustomerId(customerId,
+        toIndexedSort(pageable));
+
+    if (summaries.isEmpty()) {
+      throw new CustomException(ErrorCode.ORDER_NOT_FOUND);
+    }
+    return summaries;
+  }
+
+  // 요약 페이지의 주문을 항목과 함께 한 번에 조회해 페이지 순서대로 변환 (보관된 주문은 보관 테이블에서 조회)
+  private Page<OrderDto> toOrderDtos(Page<OrderSummary> summaries) {
+    List<Long> orderIds = summaries.map(OrderSummary::getOrderId).getContent();
+    Map<Long, OrderDto> orders = new HashMap<>();
+    if (!orderIds.isEmpty()) {
+      orderRepository.findWithItemsByIdIn(orderIds)
+          .forEach(order -> orders.put(order.getId(), OrderDto.fromEntity(order)));
+    }
+    List<Long> archivedIds = orderIds.stream()
+        .filter(orderId -> !orders.containsKey(orderId))
+        .toList();
+    if (!archivedIds.isEmpty()) {
+      archivedOrderRepository.findWithItemsByIdIn(archivedIds)
+          .forEach(order -> orders.put(order.getId(), OrderDto.fromArchive(order)));
+    }
+    return summaries.map(summary -> orders.get(summary.getOrderId()));
+  }
+
+  // 정렬은 요약 테이블 인덱스 순서(created_at, order_id)만 허용하고, 조건이 없으면 최신순
+  private static Pageable toIndexedSort(Pageable pageable) {
+    Sort sort = pageable.getSort();
+    if (sort.isUnsorted()) {
+      return latestFirst(pageable);
+    }
+    if (sort.stream().anyMatch(order -> !order.getProperty().equals("createdAt"))) {
+      throw new CustomException(ErrorCode.INVALID_SORT_PROPERTY);
+    }
+    Sort.Direction direction = sort.getOrderFor("createdAt").getDirection();
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+        Sort.by(direction, "createdAt", "orderId"));
+  }
+
+  private static Pageable latestFirst(Pageable pageable) {
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), LATEST_FIRST);
+  }
+
   // 사용자 권한 확인 (어드민이 아니고, 고객 ID가 일치하지 않는 경우 예외)
   private void validateCustomerAuthorization(Long customerId, Order order) {
     if (!isAdmin() && !order.getCustomer().getId().equals(customerId)) {
@@ -181,9 +460,25 @@ public class OrderService {
         .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + Role.ADMIN.name()));
   }
 
+  // 장바구니 소유권 확인 (소유자 ID 만 조회)
+  private void validateCartOwner(Long customerId, Long cartId) {
+    Long ownerId = cartRepository.findCustomerIdById(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+
+    if (!ownerId.equals(customerId)) {
+      throw new CustomException(ErrorCode.INVALID_AUTH_TOKEN);
+    }
+  }
+
+  // 장바구니와 항목, 상품 조회
+  private Cart findCartWithItems(Long cartId) {
+    return cartRepository.findWithItemsAndProductsById(cartId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
+  }
+
   // 장바구니 소유권 확인
   private Cart validateCartOwnership(Long customerId, Long cartId) {
-    Cart cart = cartRepository.findById(cartId)
+    Cart cart = cartRepository.findWithItemsAndProductsById(cartId)
         .orElseThrow(() -> new CustomException(ErrorCode.CART_NOT_FOUND));
 
     if (!cart.getCustomer().getId().equals(customerId)) {
@@ -199,22 +494,35 @@ public class OrderService {
     }
   }
 
-  // 주문 항목 생성, 재고량 반영
+  // 장바구니 상품과 예약 상품 ID
+  private static Set<Long> productIdsOf(Cart cart, Optional<OrderReservation> reservation) {
+    Set<Long> productIds = cart.getCartItems().stream()
+        .map(cartItem -> cartItem.getProduct().getId())
+        .collect(Collectors.toCollection(HashSet::new));
+    reservation.ifPresent(active -> active.getReservationItems()
+        .forEach(item -> productIds.add(item.getProduct().getId())));
+    return productIds;
+  }
+
+  // 주문 항목 생성, 재고량 반영 (장바구니 상품 전체를 한 번에 차감)
   private List<OrderItem> createOrderItemsFromCart(Cart cart) {
-    return cart.getCartItems().stream()
-        .map(cartItem -> {
-          Product product = cartItem.getProduct();
-          validateProductStatus(product);
-          checkAndReduceStock(product, cartItem.getQuantity());
-          return createOrderItemsFromCart(product, cartItem.getQuantity());
-        })
+    List<CartItem> cartItems = cart.getCartItems();
+    cartItems.forEach(cartItem -> validateProductStatus(cartItem.getProduct()));
+
+    productStockService.decreaseStock(cartItems.stream()
+        .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(),
+            CartItem::getQuantity, Integer::sum)));
+
+    return cartItems.stream()
+        .map(cartItem -> createOrderItemsFromCart(cartItem.getProduct(), cartItem.getQuantity()))
         .toList();
   }
 
-  // 장바구니 비우기
+  // 장바구니 비우기 (Redis 장바구니는 주문한 수량만 차감)
   private void clearCart(Cart cart) {
-    cart.getCartItems().clear();
-    cartRepository.save(cart);
+    cartStore.clearAfterOrder(cart, cart.getCartItems().stream()
+        .collect(Collectors.toMap(cartItem -> cartItem.getProduct().getId(),
+            CartItem::getQuantity, Integer::sum)));
   }
 
   // 주문 취소 가능 여부 확인 (주문이 대기중 상태가 아니면 취소 불가)
@@ -231,14 +539,26 @@ public class OrderService {
     }
   }
 
-  // 주문 상태 검증
-  private void validateStatusTransition(OrderStatus newStatus,
-      OrderStatus... allowedStatuses) {
-    if (!List.of(allowedStatuses).contains(newStatus)) {
+  // 주문 상태 전이 검증
+  private void validateStatusTransition(OrderStatus currentStatus, OrderStatus newStatus) {
+    if (!currentStatus.canTransitionTo(newStatus)) {
       throw new CustomException(ErrorCode.INVALID_ORDER_STATUS);
     }
   }
 
+  // 일괄 변경 결과 (변경되지 않은 주문은 현재 상태 반환)
+  private static OrderStatusBulkDto.Result toBulkResult(Long orderId, OrderStatusRow row,
+      Set<Long> updatedIds, OrderStatus target) {
+    if (row == null) {
+      return new OrderStatusBulkDto.Result(orderId, OrderStatusBulkDto.Outcome.NOT_FOUND, null);
+    }
+    if (updatedIds.contains(orderId)) {
+      return new OrderStatusBulkDto.Result(orderId, OrderStatusBulkDto.Outcome.UPDATED, target);
+    }
+    return new OrderStatusBulkDto.Result(orderId, OrderStatusBulkDto.Outcome.INVALID_TRANSITION,
+        OrderStatus.valueOf(row.getStatus()));
+  }
+
   // 주문 상태 설정
   private void setOrderStatus(Order order, OrderStatus newStatus) {
     if (newStatus == OrderStatus.CANCELED) {
@@ -254,26 +574,27 @@ public class OrderService {
     }
   }
 
+  // 주문 상품 락 획득 (트랜잭션 종료 시 해제)
+  private void lockOrderProducts(Order order) {
+    stripedLockManager.lockUntilTransactionEnd(order.getOrderItems().stream()
+        .map(orderItem -> orderItem.getProduct().getId())
+        .toList());
+  }
+
   // 주문 취소 시 재고 복구
   private void restoreStock(Order order) {
-    for (OrderItem orderItem : order.getOrderItems()) {
-      Product product = orderItem.getProduct();
-      Integer quantityToRestore = orderItem.getQuantity();
+    restoreStock(List.of(order.getId()));
+  }
 
-      // 재고 복구: 상품의 재고에 수량 더하기
-      product.setStockQuantity(product.getStockQuantity() + quantityToRestore);
-      productRepository.save(product);
-    }
+  // 여러 주문의 재고 일괄 복구 (상품별 합계 조회 1회 + 배치 UPDATE 1회, 플래시 세일 상품은 Redis 장부로 복구)
+  private void restoreStock(Collection<Long> orderIds) {
+    productStockService.restoreStock(sumQuantitiesByProduct(orderIds));
   }
 
-  // 재고 확인 및 차감
-  private synchronized void checkAndReduceStock(Product product, Integer quantity) {
-    // 동시성을 위해 synchronized 사용
-    if (product.getStockQuantity() < quantity) {
-      throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
-    }
-    product.setStockQuantity(product.getStockQuantity() - quantity);
-    productRepository.save(product);
+  private Map<Long, Integer> sumQuantitiesByProduct(Collection<Long> orderIds) {
+    return orderRepository.sumQuantitiesByProduct(orderIds).stream()
+        .collect(Collectors.toMap(OrderRepository.ProductQuantity::getProductId,
+            productQuantity -> productQuantity.getQuantity().intValue()));
   }
 
   // 주문 항목 생성
@@ -282,6 +603,8 @@ public class OrderService {
         .product(product)
         .quantity(quantity)
         .price(product.getPrice())
+        .productName(product.getProductName())
+        .sellerId(product.getSeller().getId())
         .build();
   }
 
@@ -299,8 +622,9 @@ public class OrderService {
 
   // 주문 찾기
   private Order findOrderById(Long orderId) {
-    return orderRepository.findById(orderId)
-        .orElseThrow(() -> new CustomException(ErrorCode.ORDER_NOT_FOUND));
+    return orderRepository.findWithItemsById(orderId)
+        .orElseThrow(() -> new CustomException(archivedOrderRepository.existsById(orderId)
+            ? ErrorCode.ORDER_CANNOT_BE_MODIFIED : ErrorCode.ORDER_NOT_FOUND));
   }
 
   // 사용자 존재 여부 확인
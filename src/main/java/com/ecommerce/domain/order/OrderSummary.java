@@ -0,0 +1,87 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+// 주문 목록 조회용 요약 (주문 변경과 같은 트랜잭션에서 갱신)
+@Entity
+@Table(name = "order_summary", indexes = {
+    @Index(name = "idx_order_summary_customer_created", columnList = "customer_id, created_at, order_id"),
+    @Index(name = "idx_order_summary_status_created", columnList = "status, created_at, order_id"),
+    @Index(name = "idx_order_summary_created", columnList = "created_at, order_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummary implements Persistable<Long> {
+
+  @Id
+  private Long orderId; // 주문 ID 를 그대로 사용
+
+  private Long customerId;
+
+  @Enumerated(EnumType.STRING)
+  private OrderStatus status;
+
+  private BigDecimal totalPrice;
+  private Integer itemCount; // 주문 항목 수
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt; // 주문 생성 시각
+  private LocalDateTime updatedAt;
+
+  // ID 를 직접 지정하므로 save() 가 merge(SELECT) 대신 persist 하도록 신규 여부를 따로 관리
+  @Transient
+  @Builder.Default
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private boolean isNew = true;
+
+  public static OrderSummary from(Order order) {
+    return OrderSummary.builder()
+        .orderId(order.getId())
+        .customerId(order.getCustomer().getId())
+        .status(order.getStatus())
+        .totalPrice(order.getTotalPrice())
+        .itemCount(order.getOrderItems().size())
+        .createdAt(order.getCreatedAt())
+        .updatedAt(order.getCreatedAt())
+        .build();
+  }
+
+  @Override
+  public Long getId() {
+    return orderId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+}
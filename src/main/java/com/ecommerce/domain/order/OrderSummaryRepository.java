@@ -0,0 +1,62 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+  Page<OrderSummary> findByCustomerId(Long customerId, Pageable pageable);
+
+  Page<OrderSummary> findByStatus(OrderStatus status, Pageable pageable);
+
+  // 최신순 첫 페이지 (count 없이 limit 만큼)
+  @Query("SELECT s FROM OrderSummary s ORDER BY s.createdAt DESC, s.orderId DESC")
+  List<OrderSummary> findLatest(Limit limit);
+
+  // 커서 위치 다음부터 최신순 조회 (created_at, order_id 인덱스 범위 탐색)
+  @Query("SELECT s FROM OrderSummary s WHERE s.createdAt <= :createdAt "
+      + "AND (s.createdAt < :createdAt OR s.orderId < :id) "
+      + "ORDER BY s.createdAt DESC, s.orderId DESC")
+  List<OrderSummary> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id, Limit limit);
+
+  @Modifying
+  @Query("UPDATE OrderSummary s SET s.status = :status, s.updatedAt = :now "
+      + "WHERE s.orderId IN :orderIds")
+  int updateStatuses(@Param("orderIds") Collection<Long> orderIds,
+      @Param("status") OrderStatus status, @Param("now") LocalDateTime now);
+
+  // 다음 재구성 구간의 마지막 주문 ID (afterId 이후 limit 건)
+  @Query(value = "SELECT MAX(id) FROM (SELECT id FROM orders WHERE id > :afterId "
+      + "ORDER BY id LIMIT :limit) AS chunk", nativeQuery = true)
+  Long findChunkEndId(@Param("afterId") long afterId, @Param("limit") int limit);
+
+  // 주문 테이블에서 요약을 다시 계산해 반영 (afterId < id <= upToId 구간)
+  @Modifying
+  @Query(value = """
+      INSERT INTO order_summary
+        (order_id, customer_id, status, total_price, item_count, created_at, updated_at)
+      SELECT * FROM (
+        SELECT o.id, o.member_id, o.status, o.total_price, COUNT(oi.id) AS item_count,
+               o.created_at, NOW() AS updated_at
+        FROM orders o LEFT JOIN order_item oi ON oi.order_id = o.id
+        WHERE o.id > :afterId AND o.id <= :upToId
+        GROUP BY o.id, o.member_id, o.status, o.total_price, o.created_at
+      ) AS s
+      ON DUPLICATE KEY UPDATE
+        status = s.status, total_price = s.total_price, item_count = s.item_count,
+        updated_at = s.updated_at
+      """, nativeQuery = true)
+  int rebuildRange(@Param("afterId") long afterId, @Param("upToId") long upToId);
+}
@@ -0,0 +1,93 @@
+package com.ecommerce.domain.order;
+
+import com.ecommerce.common.enums.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 요약(목록 조회용 read model) 관리.
+ * <p>
+ * 목록 조회가 주문 엔티티와 주문 항목/상품을 건마다 불러오지 않도록, 목록에 필요한 컬럼만 요약 테이블에 유지.
+ * 주문 생성/상태 변경과 같은 트랜잭션에서 갱신하므로 목록과 상세가 어긋나지 않음.
+ */
+@Service
+@Slf4j
+public class OrderSummaryService {
+
+  private final OrderSummaryRepository orderSummaryRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int rebuildChunkSize;
+
+  public OrderSummaryService(OrderSummaryRepository orderSummaryRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${order.summary.rebuild-chunk-size:1000}") int rebuildChunkSize) {
+    this.orderSummaryRepository = orderSummaryRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.rebuildChunkSize = rebuildChunkSize;
+  }
+
+  /**
+   * 주문 생성 시 요약 추가
+   *
+   * @param order 저장된 주문
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void create(Order order) {
+    orderSummaryRepository.save(OrderSummary.from(order));
+  }
+
+  /**
+   * 주문 상태 변경 반영
+   *
+   * @param orderIds 주문 ID 목록
+   * @param status   변경된 상태
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void updateStatus(Collection<Long> orderIds, OrderStatus status) {
+    orderSummaryRepository.updateStatuses(orderIds, status, LocalDateTime.now());
+  }
+
+  /**
+   * 주문 단건 상태 변경 반영
+   *
+   * @param orderId 주문 ID
+   * @param status  변경된 상태
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void updateStatus(Long orderId, OrderStatus status) {
+    updateStatus(List.of(orderId), status);
+  }
+
+  /**
+   * 주문 테이블 기준으로 요약 전체 재구성 (도입 시 초기 적재, 불일치 복구용)
+   * <p>
+   * 주문 ID 순으로 구간을 나눠 구간마다 별도 트랜잭션으로 처리하여 긴 잠금을 피함.
+   *
+   * @return 반영된 행 수
+   */
+  public long rebuild() {
+    long afterId = 0;
+    long affected = 0;
+    while (true) {
+      Long upToId = orderSummaryRepository.findChunkEndId(afterId, rebuildChunkSize);
+      if (upToId == null) {
+        break;
+      }
+
+      long from = afterId;
+      affected += transactionTemplate.execute(
+          status -> orderSummaryRepository.rebuildRange(from, upToId));
+      afterId = upToId;
+    }
+    log.info("주문 요약 재구성 완료 - 반영 행 수: {}", affected);
+    return affected;
+  }
+}
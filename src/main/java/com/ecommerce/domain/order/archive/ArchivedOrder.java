@@ -0,0 +1,50 @@
+package com.ecommerce.domain.order.archive;
+
+import com.ecommerce.common.enums.OrderStatus;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 보관 기간이 지난 종료(배송 완료/취소) 주문 (주문 보관 작업이 INSERT ... SELECT 로만 기록, 조회 전용)
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+    @Index(name = "idx_orders_archive_member_created", columnList = "member_id, created_at"),
+    @Index(name = "idx_orders_archive_created_at_id", columnList = "created_at, id") // 기간별 내보내기/매출 재구성용
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedOrder {
+
+  @Id
+  private Long id; // 원래 주문 ID 유지
+
+  private Long memberId;
+  private Long cartId;
+
+  @Enumerated(EnumType.STRING)
+  private OrderStatus status;
+
+  private String deliveryAddress;
+  private BigDecimal totalPrice;
+  private Long version;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+  private LocalDateTime archivedAt; // 보관 시각
+
+  @OneToMany
+  @JoinColumn(name = "order_id", insertable = false, updatable = false)
+  private List<ArchivedOrderItem> orderItems = new ArrayList<>();
+}
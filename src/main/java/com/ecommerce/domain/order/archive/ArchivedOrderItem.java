@@ -0,0 +1,31 @@
+package com.ecommerce.domain.order.archive;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+// 보관된 주문의 주문 항목 (조회 전용)
+@Entity
+@Immutable
+@Table(name = "order_item_archive", indexes = {
+    @Index(name = "idx_order_item_archive_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedOrderItem {
+
+  @Id
+  private Long id; // 원래 주문 항목 ID 유지
+
+  private Long orderId;
+  private Long productId;
+  private Integer quantity;
+  private BigDecimal price;
+  private String productName;
+  private Long sellerId;
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.domain.order.archive;
+
+import com.ecommerce.domain.order.OrderRepository.OrderExportRow;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+  // 보관된 주문과 항목을 한 번에 조회
+  @EntityGraph(attributePaths = "orderItems")
+  Optional<ArchivedOrder> findWithItemsById(Long orderId);
+
+  // 주문 목록 페이지 중 보관된 주문과 항목을 한 번에 조회
+  @EntityGraph(attributePaths = "orderItems")
+  List<ArchivedOrder> findWithItemsByIdIn(Collection<Long> orderIds);
+
+  // 보관된 주문 내보내기 (운영 테이블과 같은 행 형식, (created_at, id) 인덱스 범위만 읽음)
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(value = """
+      SELECT o.id AS orderId, o.member_id AS customerId, o.status AS status,
+             o.delivery_address AS deliveryAddress, o.total_price AS totalPrice,
+             o.created_at AS createdAt, oi.id AS orderItemId, oi.product_id AS productId,
+             oi.product_name AS productName, oi.seller_id AS sellerId,
+             oi.quantity AS quantity, oi.price AS price
+      FROM orders_archive o JOIN order_item_archive oi ON oi.order_id = o.id
+      WHERE o.created_at >= :from AND o.created_at < :to
+        AND (:status IS NULL OR o.status = :status)
+      ORDER BY o.created_at, o.id
+      """, nativeQuery = true)
+  Stream<OrderExportRow> streamForExport(@Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to, @Param("status") String status);
+
+  // 보관 대상 주문 ID 를 잠가서 조회 (다른 트랜잭션이 잡고 있는 행은 건너뛰어 대기하지 않음)
+  // 상태 하나씩 (status, updated_at) 인덱스 순서로 읽어 정렬 없이 limit 건에서 멈추므로 읽은 행만 잠금
+  @Query(value = "SELECT id FROM orders WHERE status = :status AND updated_at < :cutoff "
+      + "ORDER BY updated_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> findArchivableIdsForUpdate(@Param("status") String status,
+      @Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+  // 주문 항목 복사
+  @Modifying
+  @Query(value = """
+      INSERT INTO order_item_archive
+        (id, order_id, product_id, quantity, price, product_name, seller_id)
+      SELECT id, order_id, product_id, quantity, price, product_name, seller_id
+      FROM order_item WHERE order_id IN (:orderIds)
+      """, nativeQuery = true)
+  int copyItems(@Param("orderIds") Collection<Long> orderIds);
+
+  // 주문 복사
+  @Modifying
+  @Query(value = """
+      INSERT INTO orders_archive (id, member_id, cart_id, status, delivery_address, total_price,
+                                  version, created_at, updated_at, archived_at)
+      SELECT id, member_id, cart_id, status, delivery_address, total_price,
+             version, created_at, updated_at, :now
+      FROM orders WHERE id IN (:orderIds)
+      """, nativeQuery = true)
+  int copyOrders(@Param("orderIds") Collection<Long> orderIds, @Param("now") LocalDateTime now);
+}
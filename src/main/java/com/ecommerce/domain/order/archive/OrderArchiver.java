@@ -0,0 +1,112 @@
+package com.ecommerce.domain.order.archive;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.domain.order.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료 주문 보관 작업.
+ * <p>
+ * 보관 기간이 지난 배송 완료/취소 주문을 상태별로 (status, updated_at) 인덱스 순서대로 묶음 단위로 보관 테이블에
+ * 복사한 뒤 원본에서 삭제.
+ * 묶음마다 별도 트랜잭션으로 처리하고 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 잠금이 짧고 주문 처리를 막지 않음.
+ * 주문 요약은 그대로 두므로 사용자 주문 내역 조회에는 영향이 없음.
+ */
+@Component
+@Slf4j
+public class OrderArchiver {
+
+  // 더 이상 상태가 바뀌지 않는 주문
+  private static final List<String> CLOSED_STATUSES =
+      List.of(OrderStatus.DELIVERED.name(), OrderStatus.CANCELED.name());
+
+  private final ArchivedOrderRepository archivedOrderRepository;
+  private final OrderRepository orderRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter archivedCounter;
+  private final int retentionDays;
+  private final int chunkSize;
+  private final long chunkPauseMillis;
+
+  public OrderArchiver(ArchivedOrderRepository archivedOrderRepository,
+      OrderRepository orderRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${order.archive.retention-days:90}") int retentionDays,
+      @Value("${order.archive.chunk-size:500}") int chunkSize,
+      @Value("${order.archive.chunk-pause-ms:100}") long chunkPauseMillis) {
+    this.archivedOrderRepository = archivedOrderRepository;
+    this.orderRepository = orderRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retentionDays = retentionDays;
+    this.chunkSize = chunkSize;
+    this.chunkPauseMillis = chunkPauseMillis;
+
+    this.archivedCounter = Counter.builder("order.archive.archived")
+        .description("보관 테이블로 옮긴 주문 수")
+        .register(meterRegistry);
+  }
+
+  // 보관 대상이 남지 않을 때까지 묶음 단위로 이동
+  @Scheduled(fixedDelayString = "${order.archive.interval-ms:3600000}")
+  public void archive() {
+    LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+    long total = 0;
+    try {
+      for (String status : CLOSED_STATUSES) {
+        int moved;
+        do {
+          moved = archiveChunk(status, cutoff);
+          total += moved;
+          if (moved == chunkSize) {
+            pauseBetweenChunks();
+          }
+        } while (moved == chunkSize);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (RuntimeException e) {
+      log.warn("주문 보관 실패, 다음 주기에 재시도", e);
+    }
+
+    if (total > 0) {
+      log.info("주문 보관 완료 - 주문 수: {}", total);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 한 묶음을 한 트랜잭션에서 복사 후 삭제 (항목 -> 주문 순)
+  private int archiveChunk(String orderStatus, LocalDateTime cutoff) {
+    Integer moved = transactionTemplate.execute(status -> {
+      List<Long> orderIds = archivedOrderRepository.findArchivableIdsForUpdate(orderStatus,
+          cutoff, chunkSize);
+      if (orderIds.isEmpty()) {
+        return 0;
+      }
+
+      archivedOrderRepository.copyItems(orderIds);
+      archivedOrderRepository.copyOrders(orderIds, LocalDateTime.now());
+      orderRepository.deleteItemsByOrderIds(orderIds);
+      return orderRepository.deleteByIds(orderIds);
+    });
+    archivedCounter.increment(moved);
+    return moved;
+  }
+
+  // 복제 지연과 버퍼 풀 부담을 줄이기 위해 묶음 사이에 잠시 쉼
+  private void pauseBetweenChunks() throws InterruptedException {
+    if (chunkPauseMillis > 0) {
+      Thread.sleep(chunkPauseMillis);
+    }
+  }
+}
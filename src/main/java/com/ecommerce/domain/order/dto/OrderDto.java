@@ -2,6 +2,7 @@ package com.ecommerce.domain.order.dto;
 
 import com.ecommerce.common.enums.OrderStatus;
 import com.ecommerce.domain.order.Order;
+import com.ecommerce.domain.order.archive.ArchivedOrder;
 import java.math.BigDecimal;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -36,4 +37,17 @@ public class OrderDto {
             .toList())
         .build();
   }
+
+  public static OrderDto fromArchive(ArchivedOrder archivedOrder) {
+    return OrderDto.builder()
+        .orderId(archivedOrder.getId())
+        .customerId(archivedOrder.getMemberId())
+        .status(archivedOrder.getStatus())
+        .deliveryAddress(archivedOrder.getDeliveryAddress())
+        .totalPrice(archivedOrder.getTotalPrice())
+        .orderItems(archivedOrder.getOrderItems().stream()
+            .map(OrderItemDto::fromArchive)
+            .toList())
+        .build();
+  }
 }
@@ -0,0 +1,28 @@
+package com.ecommerce.domain.order.dto;
+
+import com.ecommerce.common.enums.OrderStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 주문 내보내기 NDJSON 한 줄
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderExportDto {
+
+  private Long orderId;
+  private Long customerId;
+  private OrderStatus status;
+  private String deliveryAddress;
+  private BigDecimal totalPrice;
+  private LocalDateTime createdAt;
+  private List<OrderItemDto> orderItems;
+}
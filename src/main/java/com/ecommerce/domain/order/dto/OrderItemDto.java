@@ -1,6 +1,7 @@
 package com.ecommerce.domain.order.dto;
 
 import com.ecommerce.domain.order.OrderItem;
+import com.ecommerce.domain.order.archive.ArchivedOrderItem;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,6 +18,8 @@ public class OrderItemDto {
 
   private Long orderItemId;
   private Long productId;
+  private String productName; // 주문 시점 상품 이름
+  private Long sellerId;
   private Integer quantity;
   private BigDecimal price;
 
@@ -24,8 +27,21 @@ public class OrderItemDto {
     return OrderItemDto.builder()
         .orderItemId(orderItemEntity.getId())
         .productId(orderItemEntity.getProduct().getId())
+        .productName(orderItemEntity.getProductName())
+        .sellerId(orderItemEntity.getSellerId())
         .quantity(orderItemEntity.getQuantity())
         .price(orderItemEntity.getPrice())
         .build();
   }
+
+  public static OrderItemDto fromArchive(ArchivedOrderItem archivedOrderItem) {
+    return OrderItemDto.builder()
+        .orderItemId(archivedOrderItem.getId())
+        .productId(archivedOrderItem.getProductId())
+        .productName(archivedOrderItem.getProductName())
+        .sellerId(archivedOrderItem.getSellerId())
+        .quantity(archivedOrderItem.getQuantity())
+        .price(archivedOrderItem.getPrice())
+        .build();
+  }
 }
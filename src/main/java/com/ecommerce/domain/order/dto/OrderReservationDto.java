@@ -0,0 +1,42 @@
+package com.ecommerce.domain.order.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class OrderReservationDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Request {
+
+    @NotNull(message = "장바구니 ID는 필수입니다.")
+    private Long cartId;
+
+    @Min(value = 1, message = "예약 시간은 1분 이상이어야 합니다.")
+    @Max(value = 30, message = "예약 시간은 30분 이하여야 합니다.")
+    private Integer holdMinutes; // 미입력 시 기본값 사용
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private Long reservationId;
+    private Long cartId;
+    private LocalDateTime expiresAt;
+    private String message;
+  }
+}
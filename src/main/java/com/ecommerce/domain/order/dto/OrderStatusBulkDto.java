@@ -0,0 +1,61 @@
+package com.ecommerce.domain.order.dto;
+
+import com.ecommerce.common.enums.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class OrderStatusBulkDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Request {
+
+    @NotEmpty(message = "주문 ID 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 변경할 수 있습니다.")
+    private List<@NotNull Long> orderIds;
+
+    @NotNull(message = "변경할 주문 상태는 필수입니다.")
+    private OrderStatus status;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private OrderStatus status;
+    private int requestedCount;
+    private int updatedCount;
+    private List<Result> results;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Result {
+
+    private Long orderId;
+    private Outcome outcome;
+    private OrderStatus currentStatus; // 처리 후 상태 (주문이 없으면 null)
+  }
+
+  public enum Outcome {
+    UPDATED,            // 변경 완료
+    NOT_FOUND,          // 주문 없음
+    INVALID_TRANSITION  // 현재 상태에서 변경할 수 없음
+  }
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.domain.order.dto;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.domain.order.OrderSummary;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 주문 목록 항목 (상세는 주문 ID 로 조회)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+
+  private Long orderId;
+  private Long customerId;
+  private OrderStatus status;
+  private BigDecimal totalPrice;
+  private Integer itemCount;
+  private LocalDateTime createdAt;
+
+  public static OrderSummaryDto fromEntity(OrderSummary summaryEntity) {
+    return OrderSummaryDto.builder()
+        .orderId(summaryEntity.getOrderId())
+        .customerId(summaryEntity.getCustomerId())
+        .status(summaryEntity.getStatus())
+        .totalPrice(summaryEntity.getTotalPrice())
+        .itemCount(summaryEntity.getItemCount())
+        .createdAt(summaryEntity.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.domain.order.dto;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.enums.OrderTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class OrderTicketDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private Long ticketId;
+    private Long cartId;
+    private OrderTicketStatus status;
+    private OrderStatus orderStatus; // 주문 생성 완료 시에만 설정
+    private String message;
+  }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 로컬 파일 전달 대상 - 한 줄에 이벤트 하나씩 NDJSON 으로 추가 (테스트/로컬 연동용)
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "file")
+public class FileOrderEventSink implements OrderEventSink {
+
+  private final ObjectMapper objectMapper;
+  private final Path path;
+
+  public FileOrderEventSink(ObjectMapper objectMapper,
+      @Value("${order.outbox.file-path:order-events.ndjson}") String path) {
+    this.objectMapper = objectMapper;
+    this.path = Path.of(path);
+  }
+
+  @Override
+  public synchronized void publish(List<OrderEventMessage> events) {
+    try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      for (OrderEventMessage event : events) {
+        writer.write(objectMapper.writeValueAsString(event));
+        writer.write('\n');
+      }
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주문 이벤트를 변환할 수 없습니다.", e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("주문 이벤트 파일에 쓸 수 없습니다: " + path, e);
+    }
+  }
+}
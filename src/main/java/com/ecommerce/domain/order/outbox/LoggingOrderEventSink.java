@@ -0,0 +1,19 @@
+package com.ecommerce.domain.order.outbox;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기본 전달 대상 - 로그로만 남김
+@Component
+@ConditionalOnProperty(name = "order.outbox.sink", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingOrderEventSink implements OrderEventSink {
+
+  @Override
+  public void publish(List<OrderEventMessage> events) {
+    events.forEach(event -> log.info("주문 이벤트 - ID: {}, 주문 ID: {}, 유형: {}, 내용: {}",
+        event.eventId(), event.orderId(), event.eventType(), event.payload()));
+  }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.common.enums.OrderEventType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+
+// 외부로 전달되는 주문 이벤트 (같은 이벤트가 다시 전달될 수 있으므로 소비자는 eventId 로 중복 제거)
+// 같은 주문의 이벤트는 orderVersion 순으로 전달되며, 서로 다른 주문 사이의 전달 순서는 보장하지 않음
+public record OrderEventMessage(Long eventId, Long orderId, Long orderVersion,
+                                OrderEventType eventType, @JsonRawValue String payload,
+                                LocalDateTime occurredAt) {
+
+  public static OrderEventMessage from(OrderOutboxEvent event) {
+    return new OrderEventMessage(event.getId(), event.getOrderId(), event.getOrderVersion(),
+        event.getEventType(), event.getPayload(), event.getCreatedAt());
+  }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.common.enums.OrderStatus;
+import java.math.BigDecimal;
+
+// 주문 이벤트 내용 (outbox payload 로 JSON 저장)
+public record OrderEventPayload(Long orderId, Long customerId, OrderStatus status,
+                                OrderStatus previousStatus, String deliveryAddress,
+                                BigDecimal totalPrice) {
+
+}
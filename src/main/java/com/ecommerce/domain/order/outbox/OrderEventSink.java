@@ -0,0 +1,13 @@
+package com.ecommerce.domain.order.outbox;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 전달 대상.
+ * <p>
+ * 예외 없이 반환하면 전달 완료로 기록되고, 예외가 발생하면 묶음 전체를 다음 주기에 다시 전달 (at-least-once).
+ */
+public interface OrderEventSink {
+
+  void publish(List<OrderEventMessage> events);
+}
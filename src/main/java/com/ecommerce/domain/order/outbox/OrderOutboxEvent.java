@@ -0,0 +1,48 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.common.entity.BaseTimeEntity;
+import com.ecommerce.common.enums.OrderEventType;
+import com.ecommerce.common.id.Tsid;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 주문 이벤트 outbox (주문 변경과 같은 트랜잭션에서 기록하고 relay 가 외부로 전달)
+@Entity
+@Table(name = "order_outbox", indexes = {
+    @Index(name = "idx_order_outbox_published_at_id", columnList = "published_at, id"),
+    @Index(name = "idx_order_outbox_order_id_version", columnList = "order_id, order_version")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutboxEvent extends BaseTimeEntity {
+
+  @Id
+  @Tsid // 시간 순 ID 로 발생 순서대로 전달
+  private Long id;
+
+  private Long orderId;
+
+  private Long orderVersion; // 변경 후 주문 버전 (같은 주문의 이벤트 전달 순서)
+
+  @Enumerated(EnumType.STRING)
+  private OrderEventType eventType;
+
+  @Column(columnDefinition = "TEXT")
+  private String payload; // JSON
+
+  private LocalDateTime publishedAt; // null 이면 전달 전
+}
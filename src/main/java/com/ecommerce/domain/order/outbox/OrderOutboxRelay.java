@@ -0,0 +1,113 @@
+package com.ecommerce.domain.order.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문 이벤트 outbox relay.
+ * <p>
+ * 미전달 이벤트를 ID 순으로 잠가서 묶음 단위로 전달 대상에 넘기고, 성공하면 같은 트랜잭션에서 전달 완료로 표시.
+ * 전달 후 표시 전에 실패하면 다음 주기에 다시 전달되므로 at-least-once 로 동작. 주문 요청은 outbox 에 한 행만 쓰고
+ * 끝나므로 전달 대상의 지연/장애가 주문 처리에 영향을 주지 않음.
+ * <p>
+ * TSID 는 인스턴스 간 시계 차이로 커밋 순서와 어긋날 수 있으므로 ID 순서는 전달 순서를 보장하지 않음. 같은 주문의
+ * 이벤트는 주문 버전(orderVersion) 순으로, 앞 버전이 전달된 뒤에만 전달하고, 서로 다른 주문 사이의 순서는 보장하지 않음.
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+  private static final int PURGE_CHUNK_SIZE = 1000;
+
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final OrderEventSink orderEventSink;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter publishedCounter;
+  private final Counter failureCounter;
+  private final AtomicLong lagMillis = new AtomicLong();
+  private final int batchSize;
+  private final long retentionHours;
+
+  public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+      OrderEventSink orderEventSink,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${order.outbox.batch-size:200}") int batchSize,
+      @Value("${order.outbox.retention-hours:24}") long retentionHours) {
+    this.orderOutboxRepository = orderOutboxRepository;
+    this.orderEventSink = orderEventSink;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.retentionHours = retentionHours;
+
+    this.publishedCounter = Counter.builder("order.outbox.published")
+        .description("전달 완료된 주문 이벤트 수")
+        .register(meterRegistry);
+    this.failureCounter = Counter.builder("order.outbox.failures")
+        .description("주문 이벤트 묶음 전달 실패 횟수")
+        .register(meterRegistry);
+    meterRegistry.gauge("order.outbox.lag.ms", lagMillis);
+  }
+
+  // 미전달 이벤트가 남지 않을 때까지 묶음 단위로 전달
+  @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:500}")
+  public void relay() {
+    try {
+      int published;
+      do {
+        published = relayBatch();
+      } while (published == batchSize);
+    } catch (RuntimeException e) {
+      failureCounter.increment();
+      log.warn("주문 이벤트 전달 실패, 다음 주기에 재시도", e);
+    } finally {
+      updateLag();
+    }
+  }
+
+  // 보관 기간이 지난 전달 완료 이벤트 정리
+  @Scheduled(fixedDelayString = "${order.outbox.purge-interval-ms:3600000}")
+  public void purgePublished() {
+    LocalDateTime cutoff = LocalDateTime.now().minusHours(retentionHours);
+    int deleted;
+    do {
+      deleted = transactionTemplate.execute(
+          status -> orderOutboxRepository.deletePublishedBefore(cutoff, PURGE_CHUNK_SIZE));
+    } while (deleted == PURGE_CHUNK_SIZE);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private int relayBatch() {
+    Integer published = transactionTemplate.execute(status -> {
+      List<OrderOutboxEvent> events = orderOutboxRepository.findUnpublishedForUpdate(batchSize);
+      if (events.isEmpty()) {
+        return 0;
+      }
+
+      orderEventSink.publish(events.stream().map(OrderEventMessage::from).toList());
+      orderOutboxRepository.markPublished(events.stream().map(OrderOutboxEvent::getId).toList(),
+          LocalDateTime.now());
+      return events.size();
+    });
+    publishedCounter.increment(published);
+    return published;
+  }
+
+  // 가장 오래된 미전달 이벤트의 대기 시간
+  private void updateLag() {
+    lagMillis.set(orderOutboxRepository.findFirstByPublishedAtIsNullOrderByIdAsc()
+        .map(event -> Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis())
+        .orElse(0L));
+  }
+}
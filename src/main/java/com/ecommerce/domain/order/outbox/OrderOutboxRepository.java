@@ -0,0 +1,42 @@
+package com.ecommerce.domain.order.outbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+  // 전달 전 이벤트를 ID 순으로 잠금 조회 (여러 인스턴스의 relay 가 같은 이벤트를 동시에 보내지 않도록 함)
+  // 같은 주문에 더 낮은 버전의 미전달 이벤트가 있으면 제외해 주문별로는 버전 순으로만 전달
+  // (TSID 는 인스턴스 간 시계 차이로 커밋 순서와 다를 수 있음, 하위 쿼리는 잠그지 않는 읽기)
+  @Query(value = """
+      SELECT * FROM order_outbox e
+      WHERE e.published_at IS NULL
+        AND NOT EXISTS (SELECT 1 FROM order_outbox p
+                        WHERE p.order_id = e.order_id AND p.order_version < e.order_version
+                          AND p.published_at IS NULL)
+      ORDER BY e.id LIMIT :limit FOR UPDATE
+      """, nativeQuery = true)
+  List<OrderOutboxEvent> findUnpublishedForUpdate(@Param("limit") int limit);
+
+  // 가장 오래된 미전달 이벤트 (지연 시간 측정용)
+  Optional<OrderOutboxEvent> findFirstByPublishedAtIsNullOrderByIdAsc();
+
+  @Modifying
+  @Query("UPDATE OrderOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+  int markPublished(@Param("ids") Collection<Long> ids,
+      @Param("publishedAt") LocalDateTime publishedAt);
+
+  // 보관 기간이 지난 전달 완료 이벤트 삭제 (한 번에 limit 건)
+  @Modifying
+  @Query(value = "DELETE FROM order_outbox WHERE published_at < :cutoff LIMIT :limit",
+      nativeQuery = true)
+  int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.domain.order.outbox;
+
+import com.ecommerce.common.enums.OrderEventType;
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.domain.order.Order;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+
+  private final OrderOutboxRepository orderOutboxRepository;
+  private final ObjectMapper objectMapper;
+  private final EntityManager entityManager;
+
+  /**
+   * 주문 이벤트 기록 - 주문 변경과 같은 트랜잭션에서만 호출 (함께 커밋/롤백)
+   * <p>
+   * 변경 후 주문 버전을 이벤트 순번으로 쓰기 위해 주문 변경을 먼저 DB 에 반영.
+   *
+   * @param order          주문
+   * @param eventType      이벤트 유형
+   * @param previousStatus 변경 전 상태 (상태 변경이 아니면 null)
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void record(Order order, OrderEventType eventType, OrderStatus previousStatus) {
+    OrderEventPayload payload = new OrderEventPayload(order.getId(),
+        order.getCustomer().getId(), order.getStatus(), previousStatus,
+        order.getDeliveryAddress(), order.getTotalPrice());
+    entityManager.flush();
+    orderOutboxRepository.save(toEvent(payload, order.getVersion(), eventType));
+  }
+
+  /**
+   * 같은 유형의 주문 이벤트 일괄 기록 (일괄 상태 변경용, 배치 INSERT)
+   *
+   * @param payloads      이벤트 내용 목록
+   * @param orderVersions 주문 ID 별 변경 후 주문 버전
+   * @param eventType     이벤트 유형
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordAll(List<OrderEventPayload> payloads, Map<Long, Long> orderVersions,
+      OrderEventType eventType) {
+    orderOutboxRepository.saveAll(payloads.stream()
+        .map(payload -> toEvent(payload, orderVersions.get(payload.orderId()), eventType))
+        .toList());
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private OrderOutboxEvent toEvent(OrderEventPayload payload, Long orderVersion,
+      OrderEventType eventType) {
+    return OrderOutboxEvent.builder()
+        .orderId(payload.orderId())
+        .orderVersion(orderVersion)
+        .eventType(eventType)
+        .payload(toJson(payload))
+        .build();
+  }
+
+  private String toJson(OrderEventPayload payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주문 이벤트를 변환할 수 없습니다.", e);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.common.repository.RedisInventoryRepository;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 플래시 세일 진행 상품 ID 의 로컬 사본.
+ * <p>
+ * 주문마다 Redis 를 거치지 않도록 진행 상품 ID 를 주기적으로 Redis 에서 읽어 메모리에 둠. 세일 상품이 없는 주문은
+ * Redis 를 호출하지 않으므로 Redis 장애 중에도 DB 경로로 처리됨. 읽기에 실패하면 마지막으로 읽은 목록을 유지하고,
+ * 한 번도 읽지 못했으면 모든 상품을 후보로 보고 장부에서 관리 여부를 확인.
+ */
+@Component
+@Slf4j
+public class FlashSaleRegistry {
+
+  private final RedisInventoryRepository redisInventoryRepository;
+  private final long refreshIntervalMillis;
+  private volatile Set<Long> activeProductIds;
+
+  public FlashSaleRegistry(RedisInventoryRepository redisInventoryRepository,
+      @Value("${inventory.flash-sale.active-refresh-ms:1000}") long refreshIntervalMillis) {
+    this.redisInventoryRepository = redisInventoryRepository;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+  }
+
+  // 세일 진행 상품 목록을 Redis 에서 다시 읽음
+  @Scheduled(fixedDelayString = "${inventory.flash-sale.active-refresh-ms:1000}")
+  public void refresh() {
+    try {
+      activeProductIds = Set.copyOf(redisInventoryRepository.findActive());
+    } catch (RuntimeException e) {
+      log.warn("플래시 세일 상품 목록 갱신 실패, 이전 목록 유지: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 세일 중일 수 있는 상품만 추림
+   *
+   * @param productIds 상품 ID 목록
+   * @return 세일 진행 상품 ID (목록을 아직 읽지 못했으면 전체)
+   */
+  public Set<Long> filterActive(Collection<Long> productIds) {
+    Set<Long> active = activeProductIds;
+    return productIds.stream()
+        .filter(productId -> active == null || active.contains(productId))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * 세일 상품 등록 후 모든 인스턴스가 목록을 다시 읽을 때까지 대기 (갱신 주기 두 번)
+   */
+  public void awaitPropagation() {
+    refresh();
+    try {
+      Thread.sleep(refreshIntervalMillis * 2);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("플래시 세일 상품 목록 전파 대기 중 인터럽트", e);
+    }
+  }
+}
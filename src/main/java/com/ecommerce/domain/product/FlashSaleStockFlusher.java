@@ -0,0 +1,24 @@
+package com.ecommerce.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlashSaleStockFlusher {
+
+  private final ProductStockService productStockService;
+
+  // Redis 장부의 재고 변경량을 주기적으로 DB 에 반영
+  @Scheduled(fixedDelayString = "${inventory.flash-sale.flush-interval-ms:1000}")
+  public void flush() {
+    try {
+      productStockService.flushPendingDeltas();
+    } catch (RuntimeException e) {
+      log.error("재고 변경량 DB 반영 실패: {}", e.getMessage());
+    }
+  }
+}
@@ -2,16 +2,18 @@ package com.ecommerce.domain.product;
 
 import com.ecommerce.common.entity.BaseTimeEntity;
 import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.id.Tsid;
 import com.ecommerce.domain.member.Member;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_product_created_at_id", columnList = "created_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -28,7 +33,7 @@ import lombok.Setter;
 public class Product extends BaseTimeEntity {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Tsid
   private Long id;
 
   private String productName;
@@ -43,6 +48,11 @@ public class Product extends BaseTimeEntity {
   @Enumerated(EnumType.STRING)
   private ProductStatus status;
 
+  private Integer stockShardCount; // 재고 분산 샤드 개수 (null 이면 상품 행에서 재고 관리)
+
+  @Version
+  private Long version; // 낙관적 락 (재고/상태 일괄 UPDATE 도 함께 증가시킴)
+
   public void setStockQuantity(Integer stockQuantity) {
     this.stockQuantity = stockQuantity;
 
@@ -52,4 +62,21 @@ public class Product extends BaseTimeEntity {
       this.status = ProductStatus.AVAILABLE;
     }
   }
+
+  // 재고 분산 사용 여부
+  public boolean isStockSharded() {
+    return stockShardCount != null && stockShardCount > 0;
+  }
+
+  // 재고를 샤드로 옮김 (상품 행 재고는 0 으로 두고 상태는 유지)
+  public void enableStockSharding(int shardCount) {
+    this.stockShardCount = shardCount;
+    this.stockQuantity = 0;
+  }
+
+  // 샤드 재고를 상품 행으로 되돌림
+  public void disableStockSharding(int totalQuantity) {
+    this.stockShardCount = null;
+    setStockQuantity(totalQuantity);
+  }
 }
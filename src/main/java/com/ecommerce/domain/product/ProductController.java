@@ -3,10 +3,14 @@ package com.ecommerce.domain.product;
 import static org.springframework.http.HttpStatus.CREATED;
 
 import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.pagination.CursorSlice;
+import com.ecommerce.common.retry.OptimisticLockRetryTemplate;
 import com.ecommerce.common.security.JwtToken;
+import com.ecommerce.domain.product.dto.FlashSaleDto;
 import com.ecommerce.domain.product.dto.ProductCreateDto;
 import com.ecommerce.domain.product.dto.ProductDto;
 import com.ecommerce.domain.product.dto.ProductUpdateDto;
+import com.ecommerce.domain.product.dto.StockShardDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +35,9 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductController {
 
   private final ProductService productService;
+  private final ProductStockService productStockService;
+  private final ProductStockShardService productStockShardService;
+  private final OptimisticLockRetryTemplate retryTemplate;
 
   private static final String ROLE_ACCESS_CONDITION =
       "hasRole('ROLE_SELLER') or hasRole('ROLE_ADMIN')";
@@ -83,6 +90,15 @@ public class ProductController {
     return ResponseEntity.ok(products);
   }
 
+  // 전체 상품 커서 조회 - 최신순
+  @GetMapping("/scroll")
+  public ResponseEntity<CursorSlice<ProductDto>> scrollAllProducts(
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "10") int size) {
+    log.info("전체 상품 정보 커서 조회 요청");
+    return ResponseEntity.ok(productService.scrollAllProducts(cursor, size));
+  }
+
   // 상품 업데이트
   @PreAuthorize(ROLE_ACCESS_CONDITION)
   @PutMapping("/{productId}")
@@ -91,8 +107,9 @@ public class ProductController {
       @Valid @RequestBody ProductUpdateDto productUpdateRequest,
       @JwtToken Long sellerId) {
     log.info("상품 업데이트 요청 - ID: {}", productId);
-    ProductDto updatedProduct = productService.updateProduct(productId, productUpdateRequest,
-        sellerId);
+    // 수정은 상품 행을 잠그고 실행하므로 충돌은 드물고, 나더라도 새 트랜잭션에서 다시 읽어 적용
+    ProductDto updatedProduct = retryTemplate.execute("product.update",
+        () -> productService.updateProduct(productId, productUpdateRequest, sellerId));
     return ResponseEntity.ok(updatedProduct);
   }
 
@@ -106,6 +123,52 @@ public class ProductController {
     return ResponseEntity.noContent().build();
   }
 
+  // 플래시 세일 시작 (재고를 Redis 장부에서 관리)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PostMapping("/{productId}/flash-sale")
+  public ResponseEntity<FlashSaleDto.Response> startFlashSale(
+      @PathVariable("productId") Long productId) {
+    log.info("플래시 세일 시작 요청 - ID: {}", productId);
+    return ResponseEntity.ok(productStockService.startFlashSale(productId));
+  }
+
+  // 플래시 세일 종료 (재고를 DB 로 되돌림)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @DeleteMapping("/{productId}/flash-sale")
+  public ResponseEntity<FlashSaleDto.Response> endFlashSale(
+      @PathVariable("productId") Long productId) {
+    log.info("플래시 세일 종료 요청 - ID: {}", productId);
+    return ResponseEntity.ok(productStockService.endFlashSale(productId));
+  }
+
+  // 재고 분산 설정 (인기 상품 재고를 여러 샤드로 분할)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PostMapping("/{productId}/stock-shards")
+  public ResponseEntity<StockShardDto.Response> enableStockSharding(
+      @PathVariable("productId") Long productId,
+      @Valid @RequestBody StockShardDto.Request request) {
+    log.info("재고 분산 설정 요청 - ID: {}, 샤드: {}", productId, request.getShardCount());
+    return ResponseEntity.ok(productStockShardService.enable(productId, request));
+  }
+
+  // 샤드 간 재고 재분배
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PostMapping("/{productId}/stock-shards/rebalance")
+  public ResponseEntity<StockShardDto.Response> rebalanceStockShards(
+      @PathVariable("productId") Long productId) {
+    log.info("재고 재분배 요청 - ID: {}", productId);
+    return ResponseEntity.ok(productStockShardService.rebalance(productId));
+  }
+
+  // 재고 분산 해제
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @DeleteMapping("/{productId}/stock-shards")
+  public ResponseEntity<StockShardDto.Response> disableStockSharding(
+      @PathVariable("productId") Long productId) {
+    log.info("재고 분산 해제 요청 - ID: {}", productId);
+    return ResponseEntity.ok(productStockShardService.disable(productId));
+  }
+
   // 상품 검색 로직 처리
   private Page<ProductDto> getSearchResults(String name, Long sellerId,
       ProductStatus productStatus, Pageable pageable) {
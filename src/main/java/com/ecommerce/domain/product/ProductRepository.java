@@ -1,17 +1,81 @@
 package com.ecommerce.domain.product;
 
 import com.ecommerce.common.enums.ProductStatus;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
   Page<Product> findByProductNameContaining(String name, Pageable pageable);
 
   Page<Product> findBySellerId(Long sellerId, Pageable pageable);
 
   Page<Product> findByStatus(ProductStatus status, Pageable pageable);
-}
\ No newline at end of file
+
+  // 최신순 첫 페이지 (count 없이 limit 만큼)
+  @Query("SELECT p FROM Product p ORDER BY p.createdAt DESC, p.id DESC")
+  List<Product> findLatest(Limit limit);
+
+  // 커서 위치 다음부터 최신순 조회 (created_at, id 인덱스 범위 탐색)
+  @Query("SELECT p FROM Product p WHERE p.createdAt <= :createdAt "
+      + "AND (p.createdAt < :createdAt OR p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+  List<Product> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+      @Param("id") Long id, Limit limit);
+
+  // 재고가 충분한 경우에만 차감 (영향받은 행 수 반환, 0 이면 재고 부족)
+  // status 를 먼저 계산해야 MySQL 의 좌->우 SET 평가 순서에서도 차감 전 재고 기준으로 판단됨
+  @Modifying
+  @Query("UPDATE Product p "
+      + "SET p.status = CASE WHEN p.stockQuantity = :quantity "
+      + "THEN com.ecommerce.common.enums.ProductStatus.OUT_OF_STOCK ELSE p.status END, "
+      + "p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1 "
+      + "WHERE p.id = :productId AND p.stockQuantity >= :quantity")
+  int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+  // 커밋된 현재 가격 (장바구니 가격 반영용, 엔티티를 읽지 않음)
+  @Query("SELECT p.price FROM Product p WHERE p.id = :productId")
+  Optional<BigDecimal> findPriceById(@Param("productId") Long productId);
+
+  // 재고 분산 설정 변경 시 상품 행 락
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Product p WHERE p.id = :productId")
+  Optional<Product> findByIdForUpdate(@Param("productId") Long productId);
+
+  @Query("SELECT p FROM Product p WHERE p.id IN :productIds AND p.stockShardCount > 0")
+  List<Product> findStockSharded(@Param("productIds") Collection<Long> productIds);
+
+  @Modifying
+  @Query("UPDATE Product p SET p.status = com.ecommerce.common.enums.ProductStatus.OUT_OF_STOCK, "
+      + "p.version = p.version + 1 WHERE p.id = :productId "
+      + "AND p.status = com.ecommerce.common.enums.ProductStatus.AVAILABLE")
+  int markOutOfStock(@Param("productId") Long productId);
+
+  // 샤드 재고가 모두 0 일 때만 품절 처리 (합계 확인과 상태 변경을 한 문장으로 처리해 동시 복구와 어긋나지 않음)
+  @Modifying
+  @Query("UPDATE Product p SET p.status = com.ecommerce.common.enums.ProductStatus.OUT_OF_STOCK, "
+      + "p.version = p.version + 1 WHERE p.id = :productId "
+      + "AND p.status = com.ecommerce.common.enums.ProductStatus.AVAILABLE "
+      + "AND NOT EXISTS (SELECT s.id FROM ProductStockShard s "
+      + "WHERE s.product.id = p.id AND s.quantity > 0)")
+  int markOutOfStockIfShardsEmpty(@Param("productId") Long productId);
+
+  @Modifying
+  @Query("UPDATE Product p SET p.status = com.ecommerce.common.enums.ProductStatus.AVAILABLE, "
+      + "p.version = p.version + 1 WHERE p.id = :productId "
+      + "AND p.status = com.ecommerce.common.enums.ProductStatus.OUT_OF_STOCK")
+  int markAvailable(@Param("productId") Long productId);
+}
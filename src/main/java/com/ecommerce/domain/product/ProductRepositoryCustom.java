@@ -0,0 +1,13 @@
+package com.ecommerce.domain.product;
+
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+
+  /**
+   * 여러 상품의 재고 증감을 한 번의 JDBC 배치로 반영 (판매중 <-> 품절 상태 전환 포함)
+   *
+   * @param deltas 상품 ID 별 재고 변경량
+   */
+  void adjustStocks(Map<Long, Integer> deltas);
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.domain.product;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+  // status 를 먼저 계산해야 MySQL 의 좌->우 SET 평가 순서에서도 변경 전 재고 기준으로 판단됨
+  private static final String ADJUST_STOCK_SQL = """
+      UPDATE product
+      SET status = CASE
+            WHEN status = 'OUT_OF_STOCK' AND stock_quantity + ? > 0 THEN 'AVAILABLE'
+            WHEN status = 'AVAILABLE' AND stock_quantity + ? <= 0 THEN 'OUT_OF_STOCK'
+            ELSE status END,
+          stock_quantity = stock_quantity + ?,
+          version = version + 1
+      WHERE id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void adjustStocks(Map<Long, Integer> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    // 상품 ID 순으로 정렬해 동시 실행되는 배치끼리 같은 순서로 행 락을 잡도록 함
+    List<Object[]> batchArgs = new TreeMap<>(deltas).entrySet().stream()
+        .map(entry -> new Object[]{entry.getValue(), entry.getValue(), entry.getValue(),
+            entry.getKey()})
+        .toList();
+    jdbcTemplate.batchUpdate(ADJUST_STOCK_SQL, batchArgs);
+  }
+}
@@ -4,13 +4,19 @@ import com.ecommerce.common.enums.ErrorCode;
 import com.ecommerce.common.enums.ProductStatus;
 import com.ecommerce.common.enums.Role;
 import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.pagination.Cursor;
+import com.ecommerce.common.pagination.CursorSlice;
+import com.ecommerce.domain.cart.CartService;
 import com.ecommerce.domain.member.Member;
 import com.ecommerce.domain.member.MemberRepository;
 import com.ecommerce.domain.product.dto.ProductCreateDto;
 import com.ecommerce.domain.product.dto.ProductCreateDto.Request;
 import com.ecommerce.domain.product.dto.ProductDto;
 import com.ecommerce.domain.product.dto.ProductUpdateDto;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +31,9 @@ public class ProductService {
 
   private final ProductRepository productRepository;
   private final MemberRepository memberRepository;
+  private final ProductStockService productStockService;
+  private final ProductStockShardService productStockShardService;
+  private final CartService cartService;
 
   /**
    * 상품 생성
@@ -48,7 +57,7 @@ public class ProductService {
    */
   public ProductDto getProductById(Long productId) {
     Product product = findProductById(productId);
-    return ProductDto.fromEntity(product);
+    return toProductDto(product);
   }
 
   /**
@@ -96,7 +105,29 @@ public class ProductService {
     Pageable sortedByCreatedAtDesc = PageRequest.of(
         pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Order.desc("createdAt")));
     Page<Product> products = productRepository.findAll(sortedByCreatedAtDesc);
-    return products.map(ProductDto::fromEntity);
+    return getProductPage(products);
+  }
+
+  /**
+   * 전체 상품 커서 조회 - 최신순 (페이지 깊이와 관계없이 같은 비용)
+   *
+   * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+   * @param size   조회 개수
+   * @return 상품 목록
+   */
+  public CursorSlice<ProductDto> scrollAllProducts(String cursor, int size) {
+    int limit = CursorSlice.normalizeSize(size);
+    List<Product> rows;
+    if (cursor == null) {
+      rows = productRepository.findLatest(Limit.of(limit + 1));
+    } else {
+      Cursor position = Cursor.decode(cursor);
+      rows = productRepository.findLatestBefore(position.createdAt(), position.id(),
+          Limit.of(limit + 1));
+    }
+
+    return CursorSlice.of(rows, limit,
+        product -> new Cursor(product.getCreatedAt(), product.getId()), this::toProductDtos);
   }
 
   /**
@@ -109,10 +140,12 @@ public class ProductService {
    */
   @Transactional
   public ProductDto updateProduct(Long productId, ProductUpdateDto request, Long sellerId) {
-    Product product = validateProductAndAccess(productId, sellerId);
+    // 행을 잠그고 읽어 그 사이 주문 재고 차감 등이 버전을 올려 충돌하지 않도록 함
+    Product product = findProductForUpdate(productId);
+    validateAccess(product, sellerId);
     updateProductFields(request, product);
 
-    return ProductDto.fromEntity(product);
+    return toProductDto(product);
   }
 
   /**
@@ -135,9 +168,46 @@ public class ProductService {
         .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
   }
 
-  // 상품 엔티티 페이지 형태 DTO 로 변환
+  // 상품 ID로 상품을 잠그고 조회
+  private Product findProductForUpdate(Long productId) {
+    return productRepository.findByIdForUpdate(productId)
+        .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+  }
+
+  // 상품 엔티티 페이지 형태 DTO 로 변환 (재고 분산 상품은 샤드 합계를 한 번에 조회)
   private Page<ProductDto> getProductPage(Page<Product> products) {
-    return products.map(ProductDto::fromEntity);
+    Map<Long, Integer> shardedStocks = sumShardedStocks(products.getContent());
+    return products.map(product -> toProductDto(product, shardedStocks));
+  }
+
+  // 상품 엔티티 목록 DTO 로 변환 (재고 분산 상품은 샤드 합계를 한 번에 조회)
+  private List<ProductDto> toProductDtos(List<Product> products) {
+    Map<Long, Integer> shardedStocks = sumShardedStocks(products);
+    return products.stream()
+        .map(product -> toProductDto(product, shardedStocks))
+        .toList();
+  }
+
+  private Map<Long, Integer> sumShardedStocks(List<Product> products) {
+    return productStockShardService.sumQuantities(products.stream()
+        .filter(Product::isStockSharded)
+        .map(Product::getId)
+        .toList());
+  }
+
+  private static ProductDto toProductDto(Product product, Map<Long, Integer> shardedStocks) {
+    ProductDto productDto = ProductDto.fromEntity(product);
+    if (product.isStockSharded()) {
+      productDto.setStockQuantity(shardedStocks.getOrDefault(product.getId(), 0));
+    }
+    return productDto;
+  }
+
+  // 상품 엔티티 DTO 로 변환 (재고 분산 상품은 샤드 합계)
+  private ProductDto toProductDto(Product product) {
+    ProductDto productDto = ProductDto.fromEntity(product);
+    productDto.setStockQuantity(productStockService.getAvailableStock(product));
+    return productDto;
   }
 
   // 판매자 검증
@@ -154,10 +224,15 @@ public class ProductService {
   // 상품 접근 권한 검증
   private Product validateProductAndAccess(Long productId, Long sellerId) {
     Product product = findProductById(productId);
+    validateAccess(product, sellerId);
+    return product;
+  }
+
+  // 상품 판매자 또는 관리자만 접근 가능
+  private void validateAccess(Product product, Long sellerId) {
     if (!isAdmin() && !product.getSeller().getId().equals(sellerId)) {
       throw new CustomException(ErrorCode.INVALID_AUTH_TOKEN);
     }
-    return product;
   }
 
   // 관리자 권한 검증
@@ -187,11 +262,21 @@ public class ProductService {
     if (request.getDescription() != null) {
       product.setDescription(request.getDescription());
     }
-    if (request.getPrice() != null) {
+    if (request.getPrice() != null && (product.getPrice() == null
+        || product.getPrice().compareTo(request.getPrice()) != 0)) {
       product.setPrice(request.getPrice());
+      cartService.applyPriceChange(product.getId());
     }
     if (request.getStockQuantity() != null) {
-      product.setStockQuantity(request.getStockQuantity());
+      // 플래시 세일 중에는 Redis 장부가 재고 기준이므로 직접 수정 불가
+      if (productStockService.isFlashSaleActive(product.getId())) {
+        throw new CustomException(ErrorCode.FLASH_SALE_STOCK_LOCKED);
+      }
+      if (product.isStockSharded()) {
+        productStockShardService.updateTotalQuantity(product, request.getStockQuantity());
+      } else {
+        product.setStockQuantity(request.getStockQuantity());
+      }
     }
     if (request.getStatus() != null) {
       product.setStatus(request.getStatus());
@@ -0,0 +1,388 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.repository.RedisInventoryRepository;
+import com.ecommerce.common.repository.RedisInventoryRepository.ReserveResult;
+import com.ecommerce.domain.product.dto.FlashSaleDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 재고 변경의 단일 진입점.
+ * <p>
+ * 플래시 세일 중인 상품의 재고는 Redis 장부에서 관리하고, 변경량은 주기적으로 DB 에 일괄 반영.
+ * 세일 진행 여부는 로컬에 둔 상품 목록으로 판단하므로 세일 상품이 없는 주문은 Redis 를 거치지 않음.
+ * 재고 분산 상품은 샤드 행에서, 그 외 상품은 DB 조건부 UPDATE 로 처리.
+ * 차감/복구는 호출하는 쪽 트랜잭션 안에서 실행되어야 함.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStockService {
+
+  private final ProductRepository productRepository;
+  private final RedisInventoryRepository redisInventoryRepository;
+  private final ProductStockShardService productStockShardService;
+  private final FlashSaleRegistry flashSaleRegistry;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * 재고 차감 (전부 성공하거나 전부 실패)
+   *
+   * @param quantities 상품 ID 별 차감 수량
+   */
+  public void decreaseStock(Map<Long, Integer> quantities) {
+    // 세일 진행 상품만 Redis 장부에서 예약 (세일 상품이 없는 주문은 Redis 를 호출하지 않음)
+    Map<Long, Integer> saleQuantities = select(quantities,
+        flashSaleRegistry.filterActive(quantities.keySet()));
+    Map<Long, Integer> reserved = new HashMap<>(saleQuantities);
+    List<Long> databaseProductIds = new ArrayList<>(quantities.keySet());
+    databaseProductIds.removeAll(saleQuantities.keySet());
+    if (!saleQuantities.isEmpty()) {
+      ReserveResult result = redisInventoryRepository.reserve(saleQuantities);
+      if (!result.isSuccess()) {
+        throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+      }
+      result.unmanagedProductIds().forEach(reserved::remove);
+      databaseProductIds.addAll(result.unmanagedProductIds());
+    }
+
+    try {
+      Map<Long, Product> sharded = findStockSharded(databaseProductIds);
+      for (Long productId : databaseProductIds) {
+        int quantity = quantities.get(productId);
+        boolean decreased = sharded.containsKey(productId)
+            ? productStockShardService.decrease(sharded.get(productId), quantity)
+            : productRepository.decreaseStock(productId, quantity) == 1;
+        if (!decreased) {
+          throw new CustomException(ErrorCode.QUANTITY_EXCEEDS_STOCK);
+        }
+      }
+    } catch (RuntimeException e) {
+      releaseReservation(reserved);
+      throw e;
+    }
+
+    // 이후 트랜잭션이 롤백되면 Redis 예약도 되돌림
+    if (!reserved.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+      ledgerChanges().reservations.add(reserved);
+    }
+  }
+
+  /**
+   * 재고 복구
+   *
+   * @param quantities 상품 ID 별 복구 수량
+   */
+  public void restoreStock(Map<Long, Integer> quantities) {
+    if (quantities.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      restoreLedgerOrDatabase(quantities);
+      return;
+    }
+
+    // Redis 장부는 롤백할 수 없으므로 커밋 이후에 복구 (DB 상품은 트랜잭션 안에서 일괄 복구)
+    Set<Long> managed = redisInventoryRepository.findManaged(
+        flashSaleRegistry.filterActive(quantities.keySet()));
+    Map<Long, Integer> ledgerQuantities = new HashMap<>();
+    Map<Long, Integer> databaseQuantities = new HashMap<>();
+    quantities.forEach((productId, quantity) ->
+        (managed.contains(productId) ? ledgerQuantities : databaseQuantities)
+            .put(productId, quantity));
+    restoreInDatabase(databaseQuantities);
+
+    if (!ledgerQuantities.isEmpty()) {
+      ledgerChanges().restores.add(ledgerQuantities);
+    }
+  }
+
+  /**
+   * 현재 트랜잭션의 Redis 장부 변경 위치 기록 (savepoint 와 함께 사용)
+   *
+   * @return 장부 변경 위치
+   */
+  public LedgerMark markLedger() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return new LedgerMark(0, 0);
+    }
+    LedgerChanges changes = ledgerChanges();
+    return new LedgerMark(changes.reservations.size(), changes.restores.size());
+  }
+
+  /**
+   * savepoint 로 되돌린 주문의 Redis 장부 변경 취소
+   * <p>
+   * 기록 위치 이후의 예약은 바로 장부에 돌려놓고, 커밋 후 복구 예정이던 수량은 버림. 그 사이 세일이 종료되어
+   * 장부에 없는 상품은 트랜잭션이 끝난 뒤 DB 에 복구 (아직 잡고 있는 행 락과 겹치지 않도록 함).
+   *
+   * @param mark {@link #markLedger()} 로 기록한 위치
+   */
+  public void rollbackLedgerTo(LedgerMark mark) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    LedgerChanges changes = ledgerChanges();
+    List<Map<Long, Integer>> reservations =
+        changes.reservations.subList(mark.reservations(), changes.reservations.size());
+    reservations.forEach(reserved -> restoreLedger(reserved)
+        .forEach((productId, quantity) -> changes.databaseRestores.merge(productId, quantity,
+            Integer::sum)));
+    reservations.clear();
+    changes.restores.subList(mark.restores(), changes.restores.size()).clear();
+  }
+
+  /**
+   * 플래시 세일 시작 - 현재 DB 재고를 Redis 장부로 옮김
+   * <p>
+   * 등록 직전에 DB 경로로 처리 중인 주문이 있으면 그 수량만큼 오차가 생길 수 있으므로 트래픽이 몰리기 전에 시작할 것.
+   *
+   * @param productId 상품 ID
+   * @return 장부에 등록된 재고
+   */
+  public FlashSaleDto.Response startFlashSale(Long productId) {
+    if (isFlashSaleActive(productId)) {
+      throw new CustomException(ErrorCode.FLASH_SALE_ALREADY_ACTIVE);
+    }
+
+    // 모든 인스턴스가 세일 상품으로 인식한 뒤 장부를 만들어야 DB 경로 차감이 장부 재고에서 빠지지 않음
+    // (장부가 생기기 전까지는 장부에 없는 상품으로 보고 DB 에서 차감). 대기는 DB 를 읽기 전에 해서
+    // 요청의 영속성 컨텍스트(open-in-view)가 커넥션을 잡은 채 잠들지 않도록 함
+    redisInventoryRepository.addActive(productId);
+    flashSaleRegistry.awaitPropagation();
+
+    // 이전 세일에서 반영되지 않은 변경량을 먼저 DB 에 반영한 뒤 재고를 읽음
+    flushPendingDeltas();
+    Product product;
+    try {
+      product = productRepository.findById(productId)
+          .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+      validateFlashSaleTarget(product);
+    } catch (CustomException e) {
+      // 세일 대상이 아니면 등록한 목록에서 다시 뺌
+      redisInventoryRepository.removeActive(productId);
+      throw e;
+    }
+
+    int stockQuantity = product.getStockQuantity();
+    if (!redisInventoryRepository.initStock(productId, stockQuantity)) {
+      throw new CustomException(ErrorCode.FLASH_SALE_ALREADY_ACTIVE);
+    }
+    log.info("플래시 세일 시작 - 상품 ID: {}, 재고: {}", productId, stockQuantity);
+    return new FlashSaleDto.Response(productId, stockQuantity, "플래시 세일 시작");
+  }
+
+  /**
+   * 플래시 세일 종료 - Redis 장부를 해제하고 변경량을 DB 에 반영
+   *
+   * @param productId 상품 ID
+   * @return 종료 시점 장부 재고
+   */
+  public FlashSaleDto.Response endFlashSale(Long productId) {
+    Integer remaining = redisInventoryRepository.getStock(productId);
+    boolean removed = remaining != null && redisInventoryRepository.removeStock(productId);
+    // 장부를 먼저 해제하므로 목록에 남아 있는 동안의 주문도 DB 경로로 처리됨 (시작 중 실패로 목록에만 남은 경우도 정리)
+    redisInventoryRepository.removeActive(productId);
+    if (!removed) {
+      throw new CustomException(ErrorCode.FLASH_SALE_NOT_ACTIVE);
+    }
+
+    flushPendingDeltas();
+    log.info("플래시 세일 종료 - 상품 ID: {}, 잔여 재고: {}", productId, remaining);
+    return new FlashSaleDto.Response(productId, remaining, "플래시 세일 종료");
+  }
+
+  /**
+   * 플래시 세일 진행 여부
+   *
+   * @param productId 상품 ID
+   * @return 진행 중이면 true
+   */
+  public boolean isFlashSaleActive(Long productId) {
+    return redisInventoryRepository.getStock(productId) != null;
+  }
+
+  /**
+   * 주문 가능한 재고 조회 (재고 분산 상품은 샤드 합계)
+   *
+   * @param product 상품
+   * @return 재고
+   */
+  public int getAvailableStock(Product product) {
+    if (!product.isStockSharded()) {
+      return product.getStockQuantity();
+    }
+    return productStockShardService.sumQuantities(List.of(product.getId()))
+        .getOrDefault(product.getId(), 0);
+  }
+
+  /**
+   * 여러 상품의 주문 가능한 재고를 한 번에 조회 (재고 분산 상품은 샤드 합계를 한 쿼리로 조회)
+   *
+   * @param products 상품 목록
+   * @return 상품 ID 별 재고
+   */
+  public Map<Long, Integer> getAvailableStocks(Collection<Product> products) {
+    Map<Long, Integer> shardedStocks = productStockShardService.sumQuantities(products.stream()
+        .filter(Product::isStockSharded)
+        .map(Product::getId)
+        .toList());
+    return products.stream()
+        .collect(Collectors.toMap(Product::getId, product -> product.isStockSharded()
+            ? shardedStocks.getOrDefault(product.getId(), 0) : product.getStockQuantity()));
+  }
+
+  /**
+   * Redis 장부의 누적 변경량을 DB 에 일괄 반영 (write-behind)
+   */
+  public void flushPendingDeltas() {
+    Map<Long, Integer> deltas = redisInventoryRepository.drainPendingDeltas();
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    try {
+      inNewTransaction(() -> productRepository.adjustStocks(deltas));
+      log.info("재고 변경량 DB 반영 완료 - 상품 수: {}", deltas.size());
+    } catch (RuntimeException e) {
+      // 반영 실패 시 다음 주기에 다시 시도하도록 되돌려 놓음
+      redisInventoryRepository.requeuePendingDeltas(deltas);
+      throw e;
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 플래시 세일을 시작할 수 있는 상품인지 확인 (삭제되지 않았고 재고 분산 중이 아님)
+  private static void validateFlashSaleTarget(Product product) {
+    if (product.getStatus() == ProductStatus.DELETED) {
+      throw new CustomException(ErrorCode.PRODUCT_NOT_AVAILABLE);
+    }
+    if (product.isStockSharded()) {
+      throw new CustomException(ErrorCode.STOCK_MODE_CONFLICT);
+    }
+  }
+
+  // Redis 예약 취소
+  private void releaseReservation(Map<Long, Integer> reserved) {
+    if (reserved.isEmpty()) {
+      return;
+    }
+    // 예약 이후 세일이 종료된 경우, 차감분은 이미 pending 으로 DB 에 반영되므로 DB 에서 되돌림
+    restoreLedgerOrDatabase(reserved);
+  }
+
+  // 장부에서 관리 중이면 장부에, 아니면 DB 에 복구
+  private void restoreLedgerOrDatabase(Map<Long, Integer> quantities) {
+    Map<Long, Integer> databaseQuantities = restoreLedger(quantities);
+    if (!databaseQuantities.isEmpty()) {
+      inNewTransaction(() -> restoreInDatabase(databaseQuantities));
+    }
+  }
+
+  // 장부에서 관리 중인 상품만 장부에 복구하고, 장부에 없는 상품의 수량을 돌려줌
+  private Map<Long, Integer> restoreLedger(Map<Long, Integer> quantities) {
+    Map<Long, Integer> ledgerQuantities = select(quantities,
+        flashSaleRegistry.filterActive(quantities.keySet()));
+    List<Long> unmanaged = new ArrayList<>(quantities.keySet());
+    unmanaged.removeAll(ledgerQuantities.keySet());
+    if (!ledgerQuantities.isEmpty()) {
+      unmanaged.addAll(redisInventoryRepository.restore(ledgerQuantities));
+    }
+    return select(quantities, unmanaged);
+  }
+
+  // 현재 트랜잭션에 등록된 장부 변경 기록 (없으면 등록)
+  private LedgerChanges ledgerChanges() {
+    for (TransactionSynchronization synchronization
+        : TransactionSynchronizationManager.getSynchronizations()) {
+      if (synchronization instanceof LedgerChanges changes) {
+        return changes;
+      }
+    }
+    LedgerChanges changes = new LedgerChanges();
+    TransactionSynchronizationManager.registerSynchronization(changes);
+    return changes;
+  }
+
+  // 지정한 상품의 수량만 추림
+  private static Map<Long, Integer> select(Map<Long, Integer> quantities,
+      Collection<Long> productIds) {
+    Map<Long, Integer> selected = new HashMap<>();
+    productIds.forEach(productId -> selected.put(productId, quantities.get(productId)));
+    return selected;
+  }
+
+  // DB 재고 복구 (재고 분산 상품은 샤드에, 나머지는 배치 UPDATE)
+  private void restoreInDatabase(Map<Long, Integer> quantities) {
+    Map<Long, Product> sharded = findStockSharded(quantities.keySet());
+    Map<Long, Integer> plainQuantities = new HashMap<>(quantities);
+    sharded.forEach((productId, product) -> {
+      productStockShardService.increase(product, quantities.get(productId));
+      plainQuantities.remove(productId);
+    });
+    productRepository.adjustStocks(plainQuantities);
+  }
+
+  private Map<Long, Product> findStockSharded(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return Map.of();
+    }
+    return productRepository.findStockSharded(productIds).stream()
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
+  }
+
+  // 트랜잭션 완료 콜백에서도 안전하게 쓰기 위해 항상 새 트랜잭션에서 실행
+  private void inNewTransaction(Runnable action) {
+    TransactionTemplate template = new TransactionTemplate(transactionManager);
+    template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    template.executeWithoutResult(status -> action.run());
+  }
+
+  /**
+   * 트랜잭션 안의 Redis 장부 변경 위치 (예약 건수, 커밋 후 복구 건수)
+   */
+  public record LedgerMark(int reservations, int restores) {
+
+  }
+
+  // 한 트랜잭션의 Redis 장부 변경 (예약은 커밋되지 않으면 되돌리고, 복구는 커밋 후 반영)
+  private final class LedgerChanges implements TransactionSynchronization {
+
+    private final List<Map<Long, Integer>> reservations = new ArrayList<>();
+    private final List<Map<Long, Integer>> restores = new ArrayList<>();
+    private final Map<Long, Integer> databaseRestores = new HashMap<>();
+
+    @Override
+    public void afterCommit() {
+      restores.forEach(ProductStockService.this::restoreLedgerOrDatabase);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      if (status != STATUS_COMMITTED) {
+        reservations.forEach(ProductStockService.this::releaseReservation);
+      }
+      if (!databaseRestores.isEmpty()) {
+        inNewTransaction(() -> restoreInDatabase(databaseRestores));
+      }
+    }
+  }
+}
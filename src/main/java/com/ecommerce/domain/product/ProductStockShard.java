@@ -0,0 +1,38 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.common.id.Tsid;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "product_stock_shard", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_stock_shard", columnNames = {"product_id", "shard_no"})
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockShard {
+
+  @Id
+  @Tsid
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "product_id", nullable = false)
+  private Product product;
+
+  private Integer shardNo;
+  private Integer quantity;
+}
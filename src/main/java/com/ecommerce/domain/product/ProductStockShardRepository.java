@@ -0,0 +1,51 @@
+package com.ecommerce.domain.product;
+
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+  // 여러 샤드를 한꺼번에 옮길 때 사용 (샤드 번호 순으로 락)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<ProductStockShard> findByProductIdOrderByShardNo(Long productId);
+
+  @Query("SELECT s.quantity FROM ProductStockShard s "
+      + "WHERE s.product.id = :productId AND s.shardNo = :shardNo")
+  Integer findQuantity(@Param("productId") Long productId, @Param("shardNo") int shardNo);
+
+  @Query("SELECT s.product.id AS productId, SUM(s.quantity) AS quantity "
+      + "FROM ProductStockShard s WHERE s.product.id IN :productIds GROUP BY s.product.id")
+  List<ShardQuantity> sumQuantities(@Param("productIds") Collection<Long> productIds);
+
+  // 해당 샤드 재고가 충분한 경우에만 차감 (0 이면 재고 부족)
+  @Modifying
+  @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity - :quantity "
+      + "WHERE s.product.id = :productId AND s.shardNo = :shardNo AND s.quantity >= :quantity")
+  int decreaseQuantity(@Param("productId") Long productId, @Param("shardNo") int shardNo,
+      @Param("quantity") int quantity);
+
+  @Modifying
+  @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity + :quantity "
+      + "WHERE s.product.id = :productId AND s.shardNo = :shardNo")
+  int increaseQuantity(@Param("productId") Long productId, @Param("shardNo") int shardNo,
+      @Param("quantity") int quantity);
+
+  @Modifying
+  @Query("DELETE FROM ProductStockShard s WHERE s.product.id = :productId")
+  void deleteByProductId(@Param("productId") Long productId);
+
+  interface ShardQuantity {
+
+    Long getProductId();
+
+    Long getQuantity();
+  }
+}
@@ -0,0 +1,246 @@
+package com.ecommerce.domain.product;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.common.repository.RedisInventoryRepository;
+import com.ecommerce.domain.product.ProductStockShardRepository.ShardQuantity;
+import com.ecommerce.domain.product.dto.StockShardDto;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인기 상품 재고 분산 관리.
+ * <p>
+ * 재고를 K 개의 샤드 행으로 나누고 주문마다 임의의 샤드에서 차감하여 단일 재고 행에 몰리는 락 경합을 줄임.
+ * 선택한 샤드가 부족하면 이웃 샤드를 차례로 시도하고, 어느 샤드도 혼자 감당할 수 없으면 전체 샤드를 잠그고 나눠서 차감.
+ * 차감은 READ COMMITTED 트랜잭션에서만 허용. REPEATABLE READ 에서는 조건이 맞지 않은 샤드 행의 락도 커밋까지
+ * 유지되어, 서로 다른 샤드에서 시작한 주문끼리 교착 상태가 생김.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStockShardService {
+
+  private final ProductRepository productRepository;
+  private final ProductStockShardRepository productStockShardRepository;
+  private final RedisInventoryRepository redisInventoryRepository;
+  private final EntityManager entityManager;
+
+  /**
+   * 재고 분산 설정 - 현재 재고를 샤드에 고르게 나눔
+   *
+   * @param productId 상품 ID
+   * @param request   샤드 개수
+   * @return 설정 결과
+   */
+  @Transactional
+  public StockShardDto.Response enable(Long productId, StockShardDto.Request request) {
+    Product product = findProductForUpdate(productId);
+    if (product.isStockSharded()) {
+      throw new CustomException(ErrorCode.STOCK_SHARDING_ALREADY_ENABLED);
+    }
+    if (redisInventoryRepository.getStock(productId) != null) {
+      throw new CustomException(ErrorCode.STOCK_MODE_CONFLICT);
+    }
+
+    int totalQuantity = product.getStockQuantity();
+    int[] distributed = distribute(totalQuantity, request.getShardCount());
+    productStockShardRepository.saveAll(IntStream.range(0, distributed.length)
+        .mapToObj(shardNo -> ProductStockShard.builder()
+            .product(product)
+            .shardNo(shardNo)
+            .quantity(distributed[shardNo])
+            .build())
+        .toList());
+    product.enableStockSharding(request.getShardCount());
+
+    log.info("재고 분산 설정 - 상품 ID: {}, 샤드: {}", productId, request.getShardCount());
+    return new StockShardDto.Response(productId, request.getShardCount(), totalQuantity,
+        "재고 분산 설정 완료");
+  }
+
+  /**
+   * 재고 분산 해제 - 샤드 재고를 합산해 상품 행으로 되돌림
+   *
+   * @param productId 상품 ID
+   * @return 해제 결과
+   */
+  @Transactional
+  public StockShardDto.Response disable(Long productId) {
+    Product product = findShardedProductForUpdate(productId);
+    int totalQuantity = sum(lockShards(productId));
+
+    productStockShardRepository.deleteByProductId(productId);
+    product.disableStockSharding(totalQuantity);
+
+    log.info("재고 분산 해제 - 상품 ID: {}", productId);
+    return new StockShardDto.Response(productId, 0, totalQuantity, "재고 분산 해제 완료");
+  }
+
+  /**
+   * 샤드 간 재고 재분배
+   *
+   * @param productId 상품 ID
+   * @return 재분배 결과
+   */
+  @Transactional
+  public StockShardDto.Response rebalance(Long productId) {
+    Product product = findShardedProductForUpdate(productId);
+    int totalQuantity = redistribute(product, null);
+    return new StockShardDto.Response(productId, product.getStockShardCount(), totalQuantity,
+        "재고 재분배 완료");
+  }
+
+  /**
+   * 전체 재고를 지정한 수량으로 바꾸고 샤드에 고르게 나눔 (상품 수정 시 사용)
+   *
+   * @param product       재고 분산 상품
+   * @param totalQuantity 새 전체 재고
+   */
+  public void updateTotalQuantity(Product product, int totalQuantity) {
+    redistribute(product, totalQuantity);
+  }
+
+  /**
+   * 샤드 재고 차감 - 호출하는 쪽 트랜잭션 안에서 실행
+   *
+   * @param product  재고 분산 상품
+   * @param quantity 차감 수량
+   * @return 재고가 부족하면 false
+   */
+  public boolean decrease(Product product, int quantity) {
+    if (!Integer.valueOf(TransactionDefinition.ISOLATION_READ_COMMITTED)
+        .equals(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())) {
+      throw new IllegalStateException("재고 분산 차감은 READ COMMITTED 트랜잭션에서만 사용할 수 있습니다.");
+    }
+    Long productId = product.getId();
+    int shardCount = product.getStockShardCount();
+    int start = ThreadLocalRandom.current().nextInt(shardCount);
+
+    for (int i = 0; i < shardCount; i++) {
+      int shardNo = (start + i) % shardCount;
+      if (productStockShardRepository.decreaseQuantity(productId, shardNo, quantity) == 1) {
+        // 샤드가 비었을 때만 전체 샤드를 확인해 상품 행 접근을 최소화
+        if (productStockShardRepository.findQuantity(productId, shardNo) == 0) {
+          productRepository.markOutOfStockIfShardsEmpty(productId);
+        }
+        return true;
+      }
+    }
+    return decreaseAcrossShards(productId, quantity);
+  }
+
+  /**
+   * 샤드 재고 복구 - 임의의 샤드에 더함
+   *
+   * @param product  재고 분산 상품
+   * @param quantity 복구 수량
+   */
+  public void increase(Product product, int quantity) {
+    int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShardCount());
+    productStockShardRepository.increaseQuantity(product.getId(), shardNo, quantity);
+    productRepository.markAvailable(product.getId());
+  }
+
+  /**
+   * 상품별 샤드 재고 합계
+   *
+   * @param productIds 상품 ID 목록
+   * @return 상품 ID 별 합계
+   */
+  public Map<Long, Integer> sumQuantities(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return Map.of();
+    }
+    return productStockShardRepository.sumQuantities(productIds).stream()
+        .collect(Collectors.toMap(ShardQuantity::getProductId,
+            shardQuantity -> shardQuantity.getQuantity().intValue()));
+  }
+
+  // ================================= Helper methods ================================= //
+
+  // 어느 샤드도 혼자 감당할 수 없는 경우 전체 샤드를 잠그고 나눠서 차감
+  private boolean decreaseAcrossShards(Long productId, int quantity) {
+    List<ProductStockShard> shards = lockShards(productId);
+    int totalQuantity = sum(shards);
+    if (totalQuantity < quantity) {
+      return false;
+    }
+
+    int remaining = quantity;
+    for (ProductStockShard shard : shards) {
+      int taken = Math.min(shard.getQuantity(), remaining);
+      shard.setQuantity(shard.getQuantity() - taken);
+      remaining -= taken;
+    }
+    if (totalQuantity == quantity) {
+      productRepository.markOutOfStock(productId);
+    }
+    return true;
+  }
+
+  // 전체 샤드를 잠그고 고르게 재분배 (totalQuantity 가 null 이면 현재 합계 유지)
+  private int redistribute(Product product, Integer totalQuantity) {
+    List<ProductStockShard> shards = lockShards(product.getId());
+    int newTotal = totalQuantity != null ? totalQuantity : sum(shards);
+
+    int[] distributed = distribute(newTotal, shards.size());
+    for (int i = 0; i < shards.size(); i++) {
+      shards.get(i).setQuantity(distributed[i]);
+    }
+
+    if (newTotal == 0 && product.getStatus() == ProductStatus.AVAILABLE) {
+      product.setStatus(ProductStatus.OUT_OF_STOCK);
+    } else if (newTotal > 0 && product.getStatus() == ProductStatus.OUT_OF_STOCK) {
+      product.setStatus(ProductStatus.AVAILABLE);
+    }
+    return newTotal;
+  }
+
+  // 전체 샤드를 샤드 번호 순으로 잠그고 현재 값으로 다시 읽음. 같은 트랜잭션(비동기 주문 묶음)에서 먼저 잠근 샤드
+  // 엔티티는 영속성 컨텍스트에 남아 있고, 이후 JPQL 차감은 DB 행만 바꾸므로 그대로 쓰면 이전 수량을 덮어씀
+  private List<ProductStockShard> lockShards(Long productId) {
+    List<ProductStockShard> shards =
+        productStockShardRepository.findByProductIdOrderByShardNo(productId);
+    shards.forEach(entityManager::refresh);
+    return shards;
+  }
+
+  private Product findProductForUpdate(Long productId) {
+    return productRepository.findByIdForUpdate(productId)
+        .orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
+  }
+
+  private Product findShardedProductForUpdate(Long productId) {
+    Product product = findProductForUpdate(productId);
+    if (!product.isStockSharded()) {
+      throw new CustomException(ErrorCode.STOCK_SHARDING_NOT_ENABLED);
+    }
+    return product;
+  }
+
+  private static int sum(List<ProductStockShard> shards) {
+    return shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+  }
+
+  // 나머지는 앞 샤드부터 하나씩 더 배정
+  private static int[] distribute(int totalQuantity, int shardCount) {
+    int[] distributed = new int[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      distributed[i] = totalQuantity / shardCount + (i < totalQuantity % shardCount ? 1 : 0);
+    }
+    return distributed;
+  }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.domain.product.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StockShardDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Request {
+
+    @NotNull(message = "샤드 개수는 필수입니다.")
+    @Min(value = 2, message = "샤드 개수는 2 이상이어야 합니다.")
+    @Max(value = 64, message = "샤드 개수는 64 이하여야 합니다.")
+    private Integer shardCount;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private Long productId;
+    private Integer shardCount;
+    private Integer stockQuantity;
+    private String message;
+  }
+}
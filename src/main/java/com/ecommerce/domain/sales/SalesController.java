@@ -0,0 +1,55 @@
+package com.ecommerce.domain.sales;
+
+import com.ecommerce.common.security.JwtToken;
+import com.ecommerce.domain.sales.dto.SalesRollupDto;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/v1/sales")
+public class SalesController {
+
+  private final SalesRollupService salesRollupService;
+
+  private static final String ROLE_ACCESS_CONDITION =
+      "hasRole('ROLE_SELLER') or hasRole('ROLE_ADMIN')";
+
+  // 판매자 일자별 매출 조회 (기본 최근 90일, 판매자는 본인 매출만)
+  @PreAuthorize(ROLE_ACCESS_CONDITION)
+  @GetMapping("/sellers/{sellerId}/daily")
+  public ResponseEntity<SalesRollupDto.Response> getDailySales(
+      @PathVariable("sellerId") Long sellerId,
+      @RequestParam(value = "productId", required = false) Long productId,
+      @RequestParam(value = "from", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(value = "to", required = false)
+      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @JwtToken Long memberId) {
+    log.info("판매자 일자별 매출 조회 요청 - 판매자 ID: {}", sellerId);
+    return ResponseEntity.ok(
+        salesRollupService.getDailySales(sellerId, productId, from, to, memberId));
+  }
+
+  // 매출 집계 재구성 (주문 테이블 기준으로 기간 내 집계를 다시 계산)
+  @PreAuthorize("hasRole('ROLE_ADMIN')")
+  @PostMapping("/rollups/rebuild")
+  public ResponseEntity<String> rebuildRollups(
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    log.info("매출 집계 재구성 요청 - 기간: {} ~ {}", from, to);
+    long affected = salesRollupService.rebuild(from, to);
+    return ResponseEntity.ok("매출 집계 재구성 완료 - 반영 행 수: " + affected);
+  }
+}
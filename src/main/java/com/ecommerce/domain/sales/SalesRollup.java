@@ -0,0 +1,26 @@
+package com.ecommerce.domain.sales;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 판매자/상품/일자별 매출 집계 (변경량 반영과 재구성은 SalesRollupRepository 의 SQL 로만 수행)
+@Entity
+@Table(name = "sales_rollup")
+@Getter
+@NoArgsConstructor
+public class SalesRollup {
+
+  @EmbeddedId
+  private SalesRollupId id;
+
+  private Long unitsSold;              // 취소되지 않은 주문의 판매 수량
+  private BigDecimal revenue;          // 취소되지 않은 주문의 매출
+  private Long deliveredUnits;         // 배송 완료된 주문의 판매 수량
+  private BigDecimal deliveredRevenue; // 배송 완료된 주문의 매출
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.domain.sales;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 변경과 같은 트랜잭션에서 추가되는 매출 변경량 (주기적으로 sales_rollup 에 합산 후 삭제)
+@Entity
+@Table(name = "sales_rollup_delta", indexes = {
+    @Index(name = "idx_sales_rollup_delta_sales_date", columnList = "sales_date")
+})
+@Getter
+@NoArgsConstructor
+public class SalesRollupDelta {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY) // INSERT ... SELECT 로만 추가
+  private Long id;
+
+  private Long sellerId;
+  private LocalDate salesDate;
+  private Long productId;
+  private Long unitsSold;
+  private BigDecimal revenue;
+  private Long deliveredUnits;
+  private BigDecimal deliveredRevenue;
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.domain.sales;
+
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 판매자 -> 날짜 -> 상품 순 (판매자의 기간별 조회가 기본 키 범위 탐색으로 처리되도록)
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SalesRollupId implements Serializable {
+
+  private Long sellerId;
+  private LocalDate salesDate; // 주문 생성일
+  private Long productId;
+}
@@ -0,0 +1,140 @@
+package com.ecommerce.domain.sales;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollupId> {
+
+  // 판매자의 일자별 매출 합계 (productId 가 null 이면 전체 상품)
+  @Query("SELECT r.id.salesDate AS salesDate, SUM(r.unitsSold) AS unitsSold, "
+      + "SUM(r.revenue) AS revenue, SUM(r.deliveredUnits) AS deliveredUnits, "
+      + "SUM(r.deliveredRevenue) AS deliveredRevenue FROM SalesRollup r "
+      + "WHERE r.id.sellerId = :sellerId AND r.id.salesDate BETWEEN :from AND :to "
+      + "AND (:productId IS NULL OR r.id.productId = :productId) "
+      + "GROUP BY r.id.salesDate ORDER BY r.id.salesDate")
+  List<DailySales> sumDaily(@Param("sellerId") Long sellerId, @Param("from") LocalDate from,
+      @Param("to") LocalDate to, @Param("productId") Long productId);
+
+  // 주문 상태 변화에 따른 매출 변경량 추가 (부호: 1 증가, -1 감소, 0 변화 없음)
+  @Modifying(flushAutomatically = true)
+  @Query(value = """
+      INSERT INTO sales_rollup_delta
+        (seller_id, sales_date, product_id, units_sold, revenue, delivered_units, delivered_revenue)
+      SELECT oi.seller_id, DATE(o.created_at), oi.product_id,
+             :soldSign * SUM(oi.quantity), :soldSign * SUM(oi.quantity * oi.price),
+             :deliveredSign * SUM(oi.quantity), :deliveredSign * SUM(oi.quantity * oi.price)
+      FROM orders o JOIN order_item oi ON oi.order_id = o.id
+      WHERE o.id IN (:orderIds)
+      GROUP BY oi.seller_id, DATE(o.created_at), oi.product_id
+      """, nativeQuery = true)
+  int insertDeltas(@Param("orderIds") Collection<Long> orderIds, @Param("soldSign") int soldSign,
+      @Param("deliveredSign") int deliveredSign);
+
+  // 합산할 변경량 잠금 조회 (다른 인스턴스가 처리 중인 행은 건너뜀)
+  @Query(value = "SELECT id FROM sales_rollup_delta ORDER BY id LIMIT :limit "
+      + "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<Long> findDeltaIdsForUpdate(@Param("limit") int limit);
+
+  // 변경량을 집계 행에 합산
+  @Modifying
+  @Query(value = """
+      INSERT INTO sales_rollup
+        (seller_id, sales_date, product_id, units_sold, revenue, delivered_units,
+         delivered_revenue, updated_at)
+      SELECT * FROM (
+        SELECT seller_id, sales_date, product_id, SUM(units_sold) AS units_sold,
+               SUM(revenue) AS revenue, SUM(delivered_units) AS delivered_units,
+               SUM(delivered_revenue) AS delivered_revenue, :now AS updated_at
+        FROM sales_rollup_delta WHERE id IN (:ids)
+        GROUP BY seller_id, sales_date, product_id
+      ) AS d
+      ON DUPLICATE KEY UPDATE
+        units_sold = units_sold + d.units_sold, revenue = revenue + d.revenue,
+        delivered_units = delivered_units + d.delivered_units,
+        delivered_revenue = delivered_revenue + d.delivered_revenue, updated_at = d.updated_at
+      """, nativeQuery = true)
+  int foldDeltas(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query(value = "DELETE FROM sales_rollup_delta WHERE id IN (:ids)", nativeQuery = true)
+  int deleteDeltas(@Param("ids") Collection<Long> ids);
+
+  // 재구성할 날짜의 변경량을 잠그고 그중 가장 큰 ID 조회 (없으면 0, 잠긴 행은 합산 작업이 건너뜀)
+  @Query(value = "SELECT COALESCE(MAX(id), 0) FROM sales_rollup_delta "
+      + "WHERE sales_date = :salesDate FOR UPDATE", nativeQuery = true)
+  long lockDeltasOf(@Param("salesDate") LocalDate salesDate);
+
+  // 재구성 결과에 이미 포함된 변경량 삭제 (잠근 시점의 최대 ID 까지만)
+  @Modifying
+  @Query(value = "DELETE FROM sales_rollup_delta WHERE sales_date = :salesDate AND id <= :maxId",
+      nativeQuery = true)
+  int deleteDeltasOf(@Param("salesDate") LocalDate salesDate, @Param("maxId") long maxId);
+
+  @Modifying
+  @Query(value = "DELETE FROM sales_rollup WHERE sales_date = :salesDate", nativeQuery = true)
+  int deleteRollupsOf(@Param("salesDate") LocalDate salesDate);
+
+  // 하루치 주문(운영 + 보관 테이블)에서 집계 행을 다시 계산 (created_at 인덱스 범위로 읽음).
+  // 잠근 변경량 이후에 추가되어 같은 읽기 시점에 보이는 변경량은 빼서 기록 (남아 있다가 합산될 때 다시 더해짐)
+  @Modifying
+  @Query(value = """
+      INSERT INTO sales_rollup
+        (seller_id, sales_date, product_id, units_sold, revenue, delivered_units,
+         delivered_revenue, updated_at)
+      SELECT s.seller_id, :salesDate, s.product_id,
+             s.units_sold - COALESCE(d.units_sold, 0), s.revenue - COALESCE(d.revenue, 0),
+             s.delivered_units - COALESCE(d.delivered_units, 0),
+             s.delivered_revenue - COALESCE(d.delivered_revenue, 0), :now
+      FROM (
+        SELECT seller_id, product_id,
+               SUM(CASE WHEN status <> 'CANCELED' THEN quantity ELSE 0 END) AS units_sold,
+               SUM(CASE WHEN status <> 'CANCELED' THEN quantity * price ELSE 0 END) AS revenue,
+               SUM(CASE WHEN status = 'DELIVERED' THEN quantity ELSE 0 END) AS delivered_units,
+               SUM(CASE WHEN status = 'DELIVERED' THEN quantity * price ELSE 0 END)
+                 AS delivered_revenue
+        FROM (
+          SELECT oi.seller_id, oi.product_id, o.status, oi.quantity, oi.price
+          FROM orders o JOIN order_item oi ON oi.order_id = o.id
+          WHERE o.created_at >= :from AND o.created_at < :to
+          UNION ALL
+          SELECT oi.seller_id, oi.product_id, o.status, oi.quantity, oi.price
+          FROM orders_archive o JOIN order_item_archive oi ON oi.order_id = o.id
+          WHERE o.created_at >= :from AND o.created_at < :to
+        ) AS src
+        GROUP BY seller_id, product_id
+      ) AS s
+      LEFT JOIN (
+        SELECT seller_id, product_id, SUM(units_sold) AS units_sold, SUM(revenue) AS revenue,
+               SUM(delivered_units) AS delivered_units,
+               SUM(delivered_revenue) AS delivered_revenue
+        FROM sales_rollup_delta
+        WHERE sales_date = :salesDate AND id > :maxDeltaId
+        GROUP BY seller_id, product_id
+      ) AS d ON d.seller_id = s.seller_id AND d.product_id = s.product_id
+      """, nativeQuery = true)
+  int rebuildDay(@Param("salesDate") LocalDate salesDate, @Param("maxDeltaId") long maxDeltaId,
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+      @Param("now") LocalDateTime now);
+
+  interface DailySales {
+
+    LocalDate getSalesDate();
+
+    Long getUnitsSold();
+
+    BigDecimal getRevenue();
+
+    Long getDeliveredUnits();
+
+    BigDecimal getDeliveredRevenue();
+  }
+}
@@ -0,0 +1,210 @@
+package com.ecommerce.domain.sales;
+
+import com.ecommerce.common.enums.ErrorCode;
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.enums.Role;
+import com.ecommerce.common.exception.CustomException;
+import com.ecommerce.domain.sales.SalesRollupRepository.DailySales;
+import com.ecommerce.domain.sales.dto.SalesRollupDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 판매자/상품/일자별 매출 집계 관리.
+ * <p>
+ * 주문 생성/취소/배송 완료 시 같은 트랜잭션에서 변경량 행만 추가하고(인기 상품 주문이 같은 집계 행을 잠그지 않도록),
+ * 주기적으로 변경량을 묶어서 집계 행에 합산. 조회는 집계 테이블만 읽음. 날짜는 주문 생성일 기준.
+ */
+@Service
+@Slf4j
+public class SalesRollupService {
+
+  private static final int DEFAULT_RANGE_DAYS = 90;
+
+  private final SalesRollupRepository salesRollupRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final TransactionTemplate rebuildTemplate;
+  private final int foldBatchSize;
+  private final int maxRangeDays;
+
+  public SalesRollupService(SalesRollupRepository salesRollupRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${sales.rollup.fold-batch-size:1000}") int foldBatchSize,
+      @Value("${sales.rollup.max-range-days:366}") int maxRangeDays) {
+    this.salesRollupRepository = salesRollupRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // 재구성은 READ COMMITTED 로 실행해 INSERT ... SELECT 가 주문 테이블을 잠그지 않는 일관된 읽기로 읽도록 함
+    // (REPEATABLE READ 에서는 읽은 주문 행과 그 사이 간격에 공유 넥스트키 락을 걸어 주문 상태 변경을 막음)
+    this.rebuildTemplate = new TransactionTemplate(transactionManager);
+    this.rebuildTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    this.foldBatchSize = foldBatchSize;
+    this.maxRangeDays = maxRangeDays;
+  }
+
+  /**
+   * 주문 상태 변화를 매출 변경량으로 기록 (주문 변경과 같은 트랜잭션에서 호출)
+   *
+   * @param orderIds       주문 ID 목록 (모두 같은 이전 상태)
+   * @param previousStatus 이전 상태 (주문 생성이면 null)
+   * @param currentStatus  변경된 상태
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordTransition(Collection<Long> orderIds, OrderStatus previousStatus,
+      OrderStatus currentStatus) {
+    int soldSign = countsAsSold(currentStatus) - countsAsSold(previousStatus);
+    int deliveredSign = countsAsDelivered(currentStatus) - countsAsDelivered(previousStatus);
+    if (orderIds.isEmpty() || (soldSign == 0 && deliveredSign == 0)) {
+      return;
+    }
+    salesRollupRepository.insertDeltas(orderIds, soldSign, deliveredSign);
+  }
+
+  /**
+   * 판매자 일자별 매출 조회 (집계 테이블만 조회)
+   *
+   * @param sellerId  판매자 ID
+   * @param productId 상품 ID (null 이면 전체 상품)
+   * @param from      시작일 (null 이면 종료일 기준 최근 90일)
+   * @param to        종료일 (null 이면 오늘)
+   * @param memberId  요청한 사용자 ID
+   * @return 일자별 매출
+   */
+  public SalesRollupDto.Response getDailySales(Long sellerId, Long productId, LocalDate from,
+      LocalDate to, Long memberId) {
+    if (!isAdmin() && !sellerId.equals(memberId)) {
+      throw new CustomException(ErrorCode.INVALID_AUTH_TOKEN);
+    }
+    LocalDate end = to != null ? to : LocalDate.now();
+    LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+    validateRange(start, end);
+
+    Map<LocalDate, DailySales> sales = salesRollupRepository
+        .sumDaily(sellerId, start, end, productId).stream()
+        .collect(Collectors.toMap(DailySales::getSalesDate, Function.identity()));
+
+    List<SalesRollupDto.Daily> daily = new ArrayList<>();
+    for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+      daily.add(toDaily(date, sales.get(date)));
+    }
+    return SalesRollupDto.Response.builder()
+        .sellerId(sellerId)
+        .productId(productId)
+        .from(start)
+        .to(end)
+        .totalUnitsSold(daily.stream().mapToLong(SalesRollupDto.Daily::getUnitsSold).sum())
+        .totalRevenue(daily.stream().map(SalesRollupDto.Daily::getRevenue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add))
+        .daily(daily)
+        .build();
+  }
+
+  /**
+   * 주문 테이블(보관 테이블 포함) 기준으로 기간 내 집계 재구성 (도입 시 초기 적재, 불일치 복구용)
+   * <p>
+   * 하루씩 별도 트랜잭션으로 처리하여 긴 잠금을 피함. 먼저 그 날짜의 변경량을 잠가 합산 작업이 건드리지 못하게 하고,
+   * 주문은 created_at 인덱스 범위로 잠그지 않고 읽음. 잠근 변경량은 읽은 결과에 모두 포함되므로 재구성 후 삭제하고,
+   * 잠근 뒤 추가된 변경량은 남겨 두되 같은 읽기에 보이는 만큼 재구성 값에서 빼므로 두 번 더해지지 않음. 재구성 중
+   * 합산 작업이 그 날짜에 새 집계 행을 먼저 만들면 중복 키 오류로 그 날짜만 롤백되며, 다시 실행하면 됨.
+   *
+   * @param from 시작일
+   * @param to   종료일
+   * @return 반영된 집계 행 수
+   */
+  public long rebuild(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+    }
+
+    long affected = 0;
+    for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+      LocalDate salesDate = date;
+      LocalDateTime start = salesDate.atStartOfDay();
+      LocalDateTime end = salesDate.plusDays(1).atStartOfDay();
+      affected += rebuildTemplate.execute(status -> {
+        // 변경량 -> 집계 순으로 잠가서 합산 작업과 같은 순서 유지
+        long maxDeltaId = salesRollupRepository.lockDeltasOf(salesDate);
+        salesRollupRepository.deleteRollupsOf(salesDate);
+        int rebuilt = salesRollupRepository.rebuildDay(salesDate, maxDeltaId, start, end,
+            LocalDateTime.now());
+        salesRollupRepository.deleteDeltasOf(salesDate, maxDeltaId);
+        return rebuilt;
+      });
+    }
+    log.info("매출 집계 재구성 완료 - 기간: {} ~ {}, 반영 행 수: {}", from, to, affected);
+    return affected;
+  }
+
+  // 쌓인 변경량이 남지 않을 때까지 묶음 단위로 집계 행에 합산
+  @Scheduled(fixedDelayString = "${sales.rollup.fold-interval-ms:5000}")
+  public void foldDeltas() {
+    try {
+      int folded;
+      do {
+        folded = foldBatch();
+      } while (folded == foldBatchSize);
+    } catch (RuntimeException e) {
+      log.warn("매출 변경량 합산 실패, 다음 주기에 재시도", e);
+    }
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private int foldBatch() {
+    return transactionTemplate.execute(status -> {
+      List<Long> ids = salesRollupRepository.findDeltaIdsForUpdate(foldBatchSize);
+      if (ids.isEmpty()) {
+        return 0;
+      }
+      salesRollupRepository.foldDeltas(ids, LocalDateTime.now());
+      salesRollupRepository.deleteDeltas(ids);
+      return ids.size();
+    });
+  }
+
+  private void validateRange(LocalDate from, LocalDate to) {
+    if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+      throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+    }
+  }
+
+  // 취소되지 않은 주문은 판매로 집계
+  private static int countsAsSold(OrderStatus status) {
+    return status != null && status != OrderStatus.CANCELED ? 1 : 0;
+  }
+
+  private static int countsAsDelivered(OrderStatus status) {
+    return status == OrderStatus.DELIVERED ? 1 : 0;
+  }
+
+  private static SalesRollupDto.Daily toDaily(LocalDate date, DailySales sales) {
+    if (sales == null) {
+      return new SalesRollupDto.Daily(date, 0L, BigDecimal.ZERO, 0L, BigDecimal.ZERO);
+    }
+    return new SalesRollupDto.Daily(date, sales.getUnitsSold(), sales.getRevenue(),
+        sales.getDeliveredUnits(), sales.getDeliveredRevenue());
+  }
+
+  // 어드민 권한 확인
+  private static boolean isAdmin() {
+    return SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+        .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + Role.ADMIN.name()));
+  }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.domain.sales.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class SalesRollupDto {
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Daily {
+
+    private LocalDate salesDate;
+    private Long unitsSold;
+    private BigDecimal revenue;
+    private Long deliveredUnits;
+    private BigDecimal deliveredRevenue;
+  }
+
+  @Getter
+  @Setter
+  @Builder
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Response {
+
+    private Long sellerId;
+    private Long productId; // null 이면 전체 상품
+    private LocalDate from;
+    private LocalDate to;
+    private Long totalUnitsSold;
+    private BigDecimal totalRevenue;
+    private List<Daily> daily; // 매출이 없는 날도 0 으로 포함
+  }
+}
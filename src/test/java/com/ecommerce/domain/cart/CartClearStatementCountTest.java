@@ -0,0 +1,133 @@
+package com.ecommerce.domain.cart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.enums.Role;
+import com.ecommerce.domain.member.Member;
+import com.ecommerce.domain.product.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 장바구니 비우기의 SQL 실행 횟수 회귀 테스트.
+ * <p>
+ * 항목 100개짜리 장바구니를 비울 때 장바구니 락 + 항목 DELETE 한 번 + 합계 초기화로 끝나야 하고, orphan 삭제로
+ * 항목마다 DELETE 를 실행하면 실패. 임베디드 DB 에 스키마를 만들어 실행.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(DatabaseCartStore.class)
+class CartClearStatementCountTest {
+
+  private static final int ITEM_COUNT = 100;
+
+  @Autowired
+  private CartStore cartStore;
+
+  @Autowired
+  private CartRepository cartRepository;
+
+  @Autowired
+  private CartItemRepository cartItemRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Cart cart;
+  private Map<Long, Integer> orderedQuantities;
+
+  @BeforeEach
+  void setUp() {
+    Member customer = persist(Member.builder()
+        .email("customer@example.com")
+        .password("password")
+        .name("customer")
+        .phoneNumber("010-0000-0000")
+        .address("address")
+        .role(Role.CUSTOMER)
+        .build());
+    Member seller = persist(Member.builder()
+        .email("seller@example.com")
+        .password("password")
+        .name("seller")
+        .phoneNumber("010-0000-0001")
+        .address("address")
+        .role(Role.SELLER)
+        .build());
+    Cart savedCart = persist(Cart.builder().customer(customer).build());
+    for (int i = 0; i < ITEM_COUNT; i++) {
+      Product product = persist(Product.builder()
+          .productName("product-" + i)
+          .description("description")
+          .price(BigDecimal.valueOf(1000))
+          .stockQuantity(10)
+          .seller(seller)
+          .status(ProductStatus.AVAILABLE)
+          .build());
+      persist(CartItem.builder()
+          .cart(savedCart)
+          .product(product)
+          .quantity(1)
+          .unitPrice(product.getPrice())
+          .build());
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    // 주문 처리처럼 장바구니와 항목을 읽어 둔 상태에서 비움
+    cart = cartRepository.findWithItemsById(savedCart.getId()).orElseThrow();
+    assertThat(cart.getCartItems()).hasSize(ITEM_COUNT);
+    orderedQuantities = cart.getCartItems().stream()
+        .collect(Collectors.toMap(item -> item.getProduct().getId(), CartItem::getQuantity));
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("주문 후 항목 100개 장바구니 비우기는 장바구니 락, DELETE, 합계 초기화 3번으로 끝남")
+  void clearAfterOrder() {
+    cartStore.clearAfterOrder(cart, orderedQuantities);
+    entityManager.flush();
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertThat(statistics.getEntityDeleteCount()).isZero();
+    assertThat(cartItemRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("항목 100개 장바구니 직접 비우기도 3번으로 끝남")
+  void clear() {
+    cartStore.clear(cart);
+    entityManager.flush();
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertThat(statistics.getEntityDeleteCount()).isZero();
+    assertThat(cartItemRepository.count()).isZero();
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
@@ -0,0 +1,120 @@
+package com.ecommerce.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.enums.Role;
+import com.ecommerce.domain.cart.Cart;
+import com.ecommerce.domain.member.Member;
+import com.ecommerce.domain.product.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주문 저장의 INSERT 배치 회귀 테스트.
+ * <p>
+ * ID 를 애플리케이션에서 미리 발급하므로 주문 항목 INSERT 가 hibernate.jdbc.batch_size 단위 배치로 묶여야 함
+ * (IDENTITY 로 돌아가면 항목마다 INSERT 를 따로 실행해 실패). 임베디드 DB 에 스키마를 만들어 실행.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderInsertStatementCountTest {
+
+  private static final int ITEM_COUNT = 100;
+  private static final int BATCH_SIZE = 50; // application.yml 의 hibernate.jdbc.batch_size
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+  private Member customer;
+  private Member seller;
+  private Cart cart;
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    customer = persist(Member.builder()
+        .email("customer@example.com")
+        .password("password")
+        .name("customer")
+        .phoneNumber("010-0000-0000")
+        .address("address")
+        .role(Role.CUSTOMER)
+        .build());
+    seller = persist(Member.builder()
+        .email("seller@example.com")
+        .password("password")
+        .name("seller")
+        .phoneNumber("010-0000-0001")
+        .address("address")
+        .role(Role.SELLER)
+        .build());
+    cart = persist(Cart.builder().customer(customer).build());
+    product = persist(Product.builder()
+        .productName("product")
+        .description("description")
+        .price(BigDecimal.valueOf(1000))
+        .stockQuantity(1000)
+        .seller(seller)
+        .status(ProductStatus.AVAILABLE)
+        .build());
+
+    entityManager.flush();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("항목 100개 주문 저장은 주문 INSERT 1번 + 항목 INSERT 배치 2번으로 끝남")
+  void saveOrderWithItems() {
+    Order order = Order.builder()
+        .customer(customer)
+        .cart(cart)
+        .status(OrderStatus.PENDING)
+        .deliveryAddress("address")
+        .build();
+    order.addOrderItems(IntStream.range(0, ITEM_COUNT)
+        .mapToObj(i -> OrderItem.builder()
+            .product(product)
+            .quantity(1)
+            .price(product.getPrice())
+            .productName(product.getProductName())
+            .sellerId(seller.getId())
+            .build())
+        .toList());
+
+    orderRepository.save(order);
+    entityManager.flush();
+
+    // 저장 전에 ID 가 정해지므로 save 시점에는 SQL 이 실행되지 않고, flush 에서 배치로 묶임
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + ITEM_COUNT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + ITEM_COUNT / BATCH_SIZE);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
@@ -0,0 +1,218 @@
+package com.ecommerce.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.enums.Role;
+import com.ecommerce.common.lock.StripedLockManager;
+import com.ecommerce.domain.cart.Cart;
+import com.ecommerce.domain.cart.CartStore;
+import com.ecommerce.domain.member.Member;
+import com.ecommerce.domain.order.dto.OrderDto;
+import com.ecommerce.domain.order.dto.OrderSummaryDto;
+import com.ecommerce.domain.order.outbox.OrderOutboxService;
+import com.ecommerce.domain.product.Product;
+import com.ecommerce.domain.product.ProductStockService;
+import com.ecommerce.domain.sales.SalesRollupService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 주문 목록/상세 조회의 SQL 실행 횟수 회귀 테스트.
+ * <p>
+ * 목록은 요약 테이블 페이지 조회 + count + 주문/항목 조회로 끝나야 하고, 주문 수가 늘어도 횟수가 늘지 않아야 함
+ * (주문이나 항목, 상품을 하나씩 지연 로딩하면 실패). 임베디드 DB 에 스키마를 만들어 실행.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(OrderService.class)
+class OrderListingQueryCountTest {
+
+  private static final int ORDER_COUNT = 120;
+  private static final int PAGE_SIZE = 100;
+  private static final int ITEMS_PER_ORDER = 2;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private CartStore cartStore;
+
+  @MockBean
+  private ProductStockService productStockService;
+
+  @MockBean
+  private StripedLockManager stripedLockManager;
+
+  @MockBean
+  private OrderReservationService orderReservationService;
+
+  @MockBean
+  private OrderOutboxService orderOutboxService;
+
+  @MockBean
+  private OrderSummaryService orderSummaryService;
+
+  @MockBean
+  private SalesRollupService salesRollupService;
+
+  @MockBean
+  private OrderIdempotencyService orderIdempotencyService;
+
+  private Statistics statistics;
+  private Member customer;
+  private Long firstOrderId;
+
+  @BeforeEach
+  void setUp() {
+    customer = persist(Member.builder()
+        .email("customer@example.com")
+        .password("password")
+        .name("customer")
+        .phoneNumber("010-0000-0000")
+        .address("address")
+        .role(Role.CUSTOMER)
+        .build());
+    Member seller = persist(Member.builder()
+        .email("seller@example.com")
+        .password("password")
+        .name("seller")
+        .phoneNumber("010-0000-0001")
+        .address("address")
+        .role(Role.SELLER)
+        .build());
+    Cart cart = persist(Cart.builder().customer(customer).build());
+    List<Product> products = List.of(persistProduct(seller, "product-1"),
+        persistProduct(seller, "product-2"));
+
+    LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      Order order = Order.builder()
+          .customer(customer)
+          .cart(cart)
+          .status(OrderStatus.PENDING)
+          .deliveryAddress("address")
+          .build();
+      order.addOrderItems(products.stream()
+          .map(product -> OrderItem.builder()
+              .product(product)
+              .quantity(1)
+              .price(product.getPrice())
+              .productName(product.getProductName())
+              .sellerId(seller.getId())
+              .build())
+          .toList());
+      persist(order);
+      persist(OrderSummary.builder()
+          .orderId(order.getId())
+          .customerId(customer.getId())
+          .status(order.getStatus())
+          .totalPrice(order.getTotalPrice())
+          .itemCount(ITEMS_PER_ORDER)
+          .createdAt(createdAt.plusSeconds(i))
+          .updatedAt(createdAt.plusSeconds(i))
+          .build());
+      if (i == 0) {
+        firstOrderId = order.getId();
+      }
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("전체 주문 목록은 요약 페이지, count, 주문/항목 조회 3번으로 끝남")
+  void getAllOrders() {
+    Page<OrderDto> orders = orderService.getAllOrders(PageRequest.of(0, PAGE_SIZE));
+
+    assertThat(orders.getContent()).hasSize(PAGE_SIZE)
+        .allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+    assertThat(orders.getTotalElements()).isEqualTo(ORDER_COUNT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("사용자 주문 목록은 사용자 확인을 포함해 4번으로 끝남")
+  void getOrdersByCustomerId() {
+    Page<OrderDto> orders = orderService.getOrdersByCustomerId(customer.getId(),
+        PageRequest.of(0, PAGE_SIZE));
+
+    assertThat(orders.getContent()).hasSize(PAGE_SIZE)
+        .allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("상태별 주문 목록은 요약 페이지, count, 주문/항목 조회 3번으로 끝남")
+  void getOrderByStatus() {
+    Page<OrderDto> orders = orderService.getOrderByStatus(OrderStatus.PENDING,
+        PageRequest.of(0, PAGE_SIZE));
+
+    assertThat(orders.getContent()).hasSize(PAGE_SIZE);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("주문 요약 목록은 요약 페이지와 count 2번으로 끝남")
+  void getAllOrderSummaries() {
+    Page<OrderSummaryDto> summaries = orderService.getAllOrderSummaries(
+        PageRequest.of(0, PAGE_SIZE));
+
+    assertThat(summaries.getContent()).hasSize(PAGE_SIZE);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("주문 상세(OrderDto)는 주문과 항목을 한 번에 조회")
+  void getOrderById() {
+    OrderDto order = orderService.getOrderById(firstOrderId);
+
+    assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private Product persistProduct(Member seller, String productName) {
+    return persist(Product.builder()
+        .productName(productName)
+        .description("description")
+        .price(BigDecimal.valueOf(1000))
+        .stockQuantity(100)
+        .seller(seller)
+        .status(ProductStatus.AVAILABLE)
+        .build());
+  }
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}
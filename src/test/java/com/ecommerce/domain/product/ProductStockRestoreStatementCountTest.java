@@ -0,0 +1,171 @@
+package com.ecommerce.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.ecommerce.common.enums.OrderStatus;
+import com.ecommerce.common.enums.ProductStatus;
+import com.ecommerce.common.enums.Role;
+import com.ecommerce.common.repository.RedisInventoryRepository;
+import com.ecommerce.domain.cart.Cart;
+import com.ecommerce.domain.member.Member;
+import com.ecommerce.domain.order.Order;
+import com.ecommerce.domain.order.OrderItem;
+import com.ecommerce.domain.order.OrderRepository;
+import com.ecommerce.domain.order.OrderRepository.ProductQuantity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 주문 취소 재고 복구의 SQL 실행 횟수 회귀 테스트.
+ * <p>
+ * 상품 50개짜리 주문의 복구가 상품별 수량 합계 1번 + 분산 상품 확인 1번 + 조건부 UPDATE 배치 1번으로 끝나야 하고,
+ * 상품 엔티티를 하나씩 읽어 저장하면 실패. 임베디드 DB 에 스키마를 만들어 실행.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ProductStockService.class)
+class ProductStockRestoreStatementCountTest {
+
+  private static final int PRODUCT_COUNT = 50;
+  private static final int ORDERED_QUANTITY = 2;
+
+  @Autowired
+  private ProductStockService productStockService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @SpyBean
+  private JdbcTemplate jdbcTemplate;
+
+  @MockBean
+  private RedisInventoryRepository redisInventoryRepository;
+
+  @MockBean
+  private ProductStockShardService productStockShardService;
+
+  @MockBean
+  private FlashSaleRegistry flashSaleRegistry;
+
+  private Statistics statistics;
+  private List<Long> productIds;
+  private Long orderId;
+
+  @BeforeEach
+  void setUp() {
+    Member customer = persist(Member.builder()
+        .email("customer@example.com")
+        .password("password")
+        .name("customer")
+        .phoneNumber("010-0000-0000")
+        .address("address")
+        .role(Role.CUSTOMER)
+        .build());
+    Member seller = persist(Member.builder()
+        .email("seller@example.com")
+        .password("password")
+        .name("seller")
+        .phoneNumber("010-0000-0001")
+        .address("address")
+        .role(Role.SELLER)
+        .build());
+    Cart cart = persist(Cart.builder().customer(customer).build());
+
+    // 절반은 품절 상품으로 두어 복구 시 판매중 전환까지 같은 배치에서 처리되는지 확인
+    List<Product> products = new ArrayList<>();
+    for (int i = 0; i < PRODUCT_COUNT; i++) {
+      boolean soldOut = i % 2 == 0;
+      products.add(persist(Product.builder()
+          .productName("product-" + i)
+          .description("description")
+          .price(BigDecimal.valueOf(1000))
+          .stockQuantity(soldOut ? 0 : 10)
+          .seller(seller)
+          .status(soldOut ? ProductStatus.OUT_OF_STOCK : ProductStatus.AVAILABLE)
+          .build()));
+    }
+    productIds = products.stream().map(Product::getId).toList();
+
+    Order order = Order.builder()
+        .customer(customer)
+        .cart(cart)
+        .status(OrderStatus.PENDING)
+        .deliveryAddress("address")
+        .build();
+    order.addOrderItems(products.stream()
+        .map(product -> OrderItem.builder()
+            .product(product)
+            .quantity(ORDERED_QUANTITY)
+            .price(product.getPrice())
+            .productName(product.getProductName())
+            .sellerId(seller.getId())
+            .build())
+        .toList());
+    orderId = persist(order).getId();
+
+    entityManager.flush();
+    entityManager.clear();
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("상품 50개 주문의 재고 복구는 집계 1번, 분산 상품 확인 1번, UPDATE 배치 1번으로 끝남")
+  void restoreStock() {
+    Map<Long, Integer> quantities = orderRepository.sumQuantitiesByProduct(List.of(orderId))
+        .stream()
+        .collect(Collectors.toMap(ProductQuantity::getProductId,
+            row -> row.getQuantity().intValue()));
+
+    productStockService.restoreStock(quantities);
+
+    assertThat(quantities).hasSize(PRODUCT_COUNT);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(statistics.getEntityLoadCount()).isZero();
+    verify(jdbcTemplate, times(1)).batchUpdate(anyString(),
+        argThat((List<Object[]> batchArgs) -> batchArgs.size() == PRODUCT_COUNT));
+
+    entityManager.clear();
+    assertThat(productIds).allSatisfy(productId -> {
+      Product product = entityManager.find(Product.class, productId);
+      assertThat(product.getStatus()).isEqualTo(ProductStatus.AVAILABLE);
+      assertThat(product.getStockQuantity()).isIn(ORDERED_QUANTITY, 10 + ORDERED_QUANTITY);
+    });
+  }
+
+  // ================================= Helper methods ================================= //
+
+  private <T> T persist(T entity) {
+    entityManager.persist(entity);
+    return entity;
+  }
+}